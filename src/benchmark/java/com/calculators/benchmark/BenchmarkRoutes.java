@@ -0,0 +1,81 @@
+package com.calculators.benchmark;
+
+import com.calculators.CalculatorToolsApplication;
+import com.calculators.config.CalculatorRegistry;
+import com.calculators.controller.CalculatorController;
+import com.calculators.controller.HomeController;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.ui.Model;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Page routes under benchmark and the handler that builds each one's model
+ */
+final class BenchmarkRoutes {
+
+    /**
+     * Production-like settings passed as command line arguments so they win over
+     * application.yml: quiet logging and none of the devtools overrides (such as
+     * disabled template caching) that come with the test classpath
+     */
+    private static final String[] ARGUMENTS = {
+            "--logging.level.root=WARN",
+            "--logging.level.com.calculators=WARN",
+            "--logging.level.org.springframework.web=WARN",
+            "--spring.devtools.add-properties=false"
+    };
+
+    private static ConfigurableApplicationContext context;
+
+    private BenchmarkRoutes() {}
+
+    /**
+     * Start the application without a web server, once per benchmark JVM
+     */
+    static synchronized ConfigurableApplicationContext context() {
+        if (context == null) {
+            context = start(WebApplicationType.NONE);
+        }
+        return context;
+    }
+
+    static ConfigurableApplicationContext start(WebApplicationType type, String... args) {
+        // Devtools only reads this one as a system property, before arguments are parsed
+        System.setProperty("spring.devtools.restart.enabled", "false");
+        List<String> arguments = new ArrayList<>(List.of(ARGUMENTS));
+        arguments.addAll(List.of(args));
+        return new SpringApplicationBuilder(CalculatorToolsApplication.class)
+                .web(type)
+                .run(arguments.toArray(String[]::new));
+    }
+
+    static List<String> all(CalculatorRegistry registry) {
+        return registry.getPageRoutes();
+    }
+
+    /**
+     * @return a function that fills a model for the route and returns its view name
+     */
+    static Function<Model, String> handler(ConfigurableApplicationContext context, String route) {
+        HomeController home = context.getBean(HomeController.class);
+        CalculatorController calculators = context.getBean(CalculatorController.class);
+        return switch (route) {
+            case "/" -> home::home;
+            case "/about" -> home::about;
+            case "/contact" -> home::contact;
+            case "/tools" -> home::tools;
+            default -> {
+                if (!route.startsWith("/calculators/")) {
+                    throw new IllegalArgumentException("Unknown route " + route);
+                }
+                String slug = route.substring("/calculators/".length());
+                yield model -> calculators.calculator(slug, model);
+            }
+        };
+    }
+}
@@ -0,0 +1,160 @@
+package com.calculators.benchmark;
+
+import com.calculators.config.CalculatorRegistry;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.lang.management.ManagementFactory;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Drives the full Spring MVC stack in-process over real HTTP at a fixed concurrency
+ * and reports throughput, latency percentiles and server-side allocation per route.
+ *
+ * Each route is measured twice: as served (page cache hits after the first request)
+ * and with a query string, which bypasses the page cache and forces a full render.
+ *
+ * System properties: load.concurrency, load.warmupSeconds, load.durationSeconds,
+ * load.routes (comma separated, defaults to every registered page), load.output.
+ */
+public final class LoadHarness {
+
+    private static final String SERVER_THREAD_PREFIX = "http-nio-";
+
+    private LoadHarness() {}
+
+    public static void main(String[] args) throws Exception {
+        int concurrency = Integer.getInteger("load.concurrency", 16);
+        int warmupSeconds = Integer.getInteger("load.warmupSeconds", 5);
+        int durationSeconds = Integer.getInteger("load.durationSeconds", 10);
+        Path output = Path.of(System.getProperty("load.output", "target/benchmark/load.json"));
+
+        List<String> arguments = new ArrayList<>(List.of(args));
+        arguments.add("--server.port=0");
+        ConfigurableApplicationContext context = BenchmarkRoutes.start(WebApplicationType.SERVLET,
+                arguments.toArray(String[]::new));
+        try {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            String routeProperty = System.getProperty("load.routes");
+            List<String> routes = routeProperty != null && !routeProperty.isBlank()
+                    ? Arrays.asList(routeProperty.split(","))
+                    : BenchmarkRoutes.all(context.getBean(CalculatorRegistry.class));
+
+            HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+            ExecutorService workers = Executors.newFixedThreadPool(concurrency);
+            List<Map<String, Object>> results = new ArrayList<>();
+            try {
+                for (String route : routes) {
+                    for (String mode : List.of("served", "rendered")) {
+                        URI uri = URI.create("http://localhost:" + port + route + ("rendered".equals(mode) ? "?render" : ""));
+                        run(client, workers, uri, concurrency, warmupSeconds);
+                        Map<String, Object> result = run(client, workers, uri, concurrency, durationSeconds);
+                        result.put("route", route);
+                        result.put("mode", mode);
+                        results.add(result);
+                        System.out.printf("%-34s %-8s %10.1f req/s  p50 %8.3f ms  p99 %8.3f ms  p999 %8.3f ms  %9.0f B/req  errors %d%n",
+                                route, mode, result.get("throughput"), result.get("p50Ms"), result.get("p99Ms"),
+                                result.get("p999Ms"), result.get("allocatedBytesPerRequest"), result.get("errors"));
+                    }
+                }
+            } finally {
+                workers.shutdownNow();
+            }
+
+            Map<String, Object> report = new LinkedHashMap<>();
+            report.put("timestamp", Instant.now().toString());
+            report.put("javaVersion", System.getProperty("java.version"));
+            report.put("availableProcessors", Runtime.getRuntime().availableProcessors());
+            report.put("concurrency", concurrency);
+            report.put("warmupSeconds", warmupSeconds);
+            report.put("durationSeconds", durationSeconds);
+            report.put("results", results);
+
+            Files.createDirectories(output.toAbsolutePath().getParent());
+            new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(output.toFile(), report);
+            System.out.println("Wrote " + output.toAbsolutePath());
+        } finally {
+            context.close();
+        }
+    }
+
+    private static Map<String, Object> run(HttpClient client, ExecutorService workers, URI uri,
+                                           int concurrency, int seconds) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(uri).header("Accept-Encoding", "gzip").GET().build();
+        AtomicLong errors = new AtomicLong();
+        long allocatedBefore = serverAllocatedBytes();
+        long start = System.nanoTime();
+        long deadline = start + seconds * 1_000_000_000L;
+
+        List<Future<LatencyHistogram>> futures = new ArrayList<>();
+        for (int i = 0; i < concurrency; i++) {
+            futures.add(workers.submit(() -> {
+                LatencyHistogram histogram = new LatencyHistogram();
+                while (System.nanoTime() < deadline) {
+                    long requestStart = System.nanoTime();
+                    HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                    histogram.record(System.nanoTime() - requestStart);
+                    if (response.statusCode() != 200) {
+                        errors.incrementAndGet();
+                    }
+                }
+                return histogram;
+            }));
+        }
+
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (Future<LatencyHistogram> future : futures) {
+            histogram.add(future.get());
+        }
+        double elapsedSeconds = (System.nanoTime() - start) / 1e9;
+        long allocated = serverAllocatedBytes() - allocatedBefore;
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("requests", histogram.count());
+        result.put("errors", errors.get());
+        result.put("throughput", histogram.count() / elapsedSeconds);
+        result.put("p50Ms", histogram.percentile(50) / 1e6);
+        result.put("p99Ms", histogram.percentile(99) / 1e6);
+        result.put("p999Ms", histogram.percentile(99.9) / 1e6);
+        result.put("maxMs", histogram.max() / 1e6);
+        result.put("allocatedBytesPerRequest", histogram.count() == 0 ? 0.0 : (double) allocated / histogram.count());
+        result.put("allocationRateMBps", allocated / elapsedSeconds / (1024 * 1024));
+        return result;
+    }
+
+    /**
+     * Bytes allocated so far by the servlet container's request threads
+     */
+    private static long serverAllocatedBytes() {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long[] ids = Thread.getAllStackTraces().keySet().stream()
+                .filter(thread -> thread.getName().startsWith(SERVER_THREAD_PREFIX))
+                .mapToLong(Thread::threadId)
+                .toArray();
+        long total = 0;
+        for (long bytes : threads.getThreadAllocatedBytes(ids)) {
+            if (bytes > 0) {
+                total += bytes;
+            }
+        }
+        return total;
+    }
+}
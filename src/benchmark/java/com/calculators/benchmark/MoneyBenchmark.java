@@ -0,0 +1,185 @@
+package com.calculators.benchmark;
+
+import com.calculators.service.AmortizationSchedule;
+import com.calculators.service.Money;
+import com.calculators.service.MortgageInputs;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Full principal and interest schedules in fixed-point {@link Money} against the same
+ * algorithm in BigDecimal and the floating point loop it replaced.
+ *
+ * Setup checks that every Money schedule matches the BigDecimal reference to the cent
+ * before anything is measured.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MoneyBenchmark {
+
+    private static final int LOANS = 64;
+    private static final int VERIFIED_LOANS = 5_000;
+    private static final BigDecimal RATE_ONE = BigDecimal.ONE.setScale(Money.RATE_SCALE);
+    private static final BigDecimal MONTHS = BigDecimal.valueOf(12);
+
+    @Param({"180", "360"})
+    public int termMonths;
+
+    private final MortgageInputs[] loans = new MortgageInputs[LOANS];
+    private int next;
+
+    @Setup
+    public void setup() {
+        SplittableRandom random = new SplittableRandom(42);
+        for (int i = 0; i < LOANS; i++) {
+            loans[i] = randomLoan(random, termMonths);
+        }
+        int doubleMismatches = 0;
+        for (int i = 0; i < VERIFIED_LOANS; i++) {
+            MortgageInputs inputs = randomLoan(random, termMonths);
+            long[] exact = bigDecimal(inputs);
+            long[] fixed = money(inputs);
+            if (exact[0] != fixed[0] || exact[1] != fixed[1]) {
+                throw new IllegalStateException("Money and BigDecimal differ for " + describe(inputs)
+                        + ": payment " + fixed[0] + " vs " + exact[0] + ", interest " + fixed[1] + " vs " + exact[1]);
+            }
+            long[] floating = doubles(inputs);
+            if (exact[0] != floating[0] || exact[1] != floating[1]) {
+                doubleMismatches++;
+            }
+        }
+        System.out.printf("%d loans cent-exact; the double loop differs from BigDecimal on %d%n",
+                VERIFIED_LOANS, doubleMismatches);
+    }
+
+    @Benchmark
+    public long[] money() {
+        return money(nextLoan());
+    }
+
+    @Benchmark
+    public long[] bigDecimal() {
+        return bigDecimal(nextLoan());
+    }
+
+    @Benchmark
+    public long[] doubles() {
+        return doubles(nextLoan());
+    }
+
+    private MortgageInputs nextLoan() {
+        MortgageInputs inputs = loans[next];
+        next = (next + 1) % LOANS;
+        return inputs;
+    }
+
+    /**
+     * @return scheduled payment and total interest in cents
+     */
+    private static long[] money(MortgageInputs inputs) {
+        AmortizationSchedule schedule = new AmortizationSchedule(inputs);
+        while (schedule.next() > 0) {
+            // Only the totals are compared
+        }
+        return new long[]{schedule.getTerms().scheduledPayment(), schedule.getTotalInterest()};
+    }
+
+    /**
+     * The Money algorithm written with BigDecimal: rates rounded half-even to 12 places after
+     * every step, cents rounded half-up
+     */
+    private static long[] bigDecimal(MortgageInputs inputs) {
+        BigDecimal loan = BigDecimal.valueOf(inputs.getHomePrice()).setScale(2, RoundingMode.HALF_EVEN)
+                .subtract(BigDecimal.valueOf(inputs.getDownPayment()).setScale(2, RoundingMode.HALF_EVEN));
+        BigDecimal rate = BigDecimal.valueOf(inputs.getInterestRate()).movePointLeft(2)
+                .setScale(Money.RATE_SCALE, RoundingMode.HALF_EVEN)
+                .divide(MONTHS, Money.RATE_SCALE, RoundingMode.HALF_EVEN);
+        int term = inputs.getTermMonths();
+
+        BigDecimal payment;
+        if (rate.signum() == 0) {
+            payment = loan.divide(BigDecimal.valueOf(term), 2, RoundingMode.HALF_UP);
+        } else {
+            BigDecimal discount = pow(RATE_ONE.divide(RATE_ONE.add(rate), Money.RATE_SCALE, RoundingMode.HALF_EVEN), term);
+            BigDecimal factor = rate.divide(RATE_ONE.subtract(discount), Money.RATE_SCALE, RoundingMode.HALF_EVEN);
+            payment = loan.multiply(factor).setScale(2, RoundingMode.HALF_UP);
+        }
+
+        BigDecimal balance = loan;
+        BigDecimal totalInterest = BigDecimal.ZERO;
+        for (int m = 1; m <= term && balance.signum() > 0; m++) {
+            BigDecimal interest = balance.multiply(rate).setScale(2, RoundingMode.HALF_UP);
+            BigDecimal principal = m == term ? balance : payment.subtract(interest).min(balance);
+            balance = balance.subtract(principal);
+            totalInterest = totalInterest.add(interest);
+        }
+        return new long[]{payment.movePointRight(2).longValueExact(), totalInterest.movePointRight(2).longValueExact()};
+    }
+
+    private static BigDecimal pow(BigDecimal factor, int exponent) {
+        BigDecimal result = RATE_ONE;
+        BigDecimal base = factor;
+        for (int e = exponent; e > 0; e >>>= 1) {
+            if ((e & 1) != 0) {
+                result = result.multiply(base).setScale(Money.RATE_SCALE, RoundingMode.HALF_EVEN);
+            }
+            if (e > 1) {
+                base = base.multiply(base).setScale(Money.RATE_SCALE, RoundingMode.HALF_EVEN);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * The floating point schedule the calculators used before Money, rounding to cents with Math.round
+     */
+    private static long[] doubles(MortgageInputs inputs) {
+        double loan = inputs.getHomePrice() - inputs.getDownPayment();
+        double rate = inputs.getInterestRate() / 100 / 12;
+        int term = inputs.getTermMonths();
+        double payment = rate == 0
+                ? loan / term
+                : loan * rate * Math.pow(1 + rate, term) / (Math.pow(1 + rate, term) - 1);
+        payment = Math.round(payment * 100) / 100.0;
+
+        double balance = loan;
+        double totalInterest = 0;
+        for (int m = 1; m <= term && balance > 0; m++) {
+            double interest = Math.round(balance * rate * 100) / 100.0;
+            double principal = m == term ? balance : Math.min(payment - interest, balance);
+            balance -= principal;
+            totalInterest += interest;
+        }
+        return new long[]{Math.round(payment * 100), Math.round(totalInterest * 100)};
+    }
+
+    private static MortgageInputs randomLoan(SplittableRandom random, int termMonths) {
+        MortgageInputs inputs = new MortgageInputs();
+        double price = random.nextInt(5_000_000, 200_000_000) / 100.0;
+        inputs.setHomePrice(price);
+        inputs.setDownPayment(Math.round(price * random.nextInt(20, 60)) / 100.0);
+        inputs.setInterestRate(random.nextInt(0, 1_500) / 100.0);
+        inputs.setTermYears(termMonths / 12);
+        inputs.setPropertyTaxRate(0);
+        inputs.setAnnualInsurance(0);
+        inputs.setPmiRate(0);
+        return inputs;
+    }
+
+    private static String describe(MortgageInputs inputs) {
+        return inputs.getHomePrice() + " - " + inputs.getDownPayment() + " at " + inputs.getInterestRate()
+                + "% over " + inputs.getTermMonths() + " months";
+    }
+}
@@ -0,0 +1,46 @@
+package com.calculators.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.ui.ExtendedModelMap;
+import org.springframework.ui.Model;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Cost of the controller side of a page request: resolving the handler's model and view name
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PageModelBenchmark {
+
+    @Param({"/", "/about", "/contact", "/tools",
+            "/calculators/mortgage", "/calculators/bmi", "/calculators/loan", "/calculators/tax",
+            "/calculators/investment", "/calculators/retirement", "/calculators/percentage",
+            "/calculators/compound-interest", "/calculators/calorie", "/calculators/body-fat",
+            "/calculators/unit-converter"})
+    public String route;
+
+    private Function<Model, String> handler;
+
+    @Setup
+    public void setup() {
+        handler = BenchmarkRoutes.handler(BenchmarkRoutes.context(), route);
+    }
+
+    @Benchmark
+    public void buildModel(Blackhole blackhole) {
+        ExtendedModelMap model = new ExtendedModelMap();
+        blackhole.consume(handler.apply(model));
+        blackhole.consume(model);
+    }
+}
@@ -0,0 +1,72 @@
+package com.calculators.benchmark;
+
+import com.calculators.service.MortgageGrid;
+import com.calculators.service.MortgageGridInputs;
+import com.calculators.service.PaymentGrid;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mortgage sensitivity grids on the Vector API against the scalar loops.
+ *
+ * Setup checks that both paths give identical grids. Without
+ * {@code --add-modules jdk.incubator.vector} both variants measure the scalar path.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PaymentGridBenchmark {
+
+    /** rates x terms x down payments */
+    @Param({"250x40x1", "200x40x5"})
+    public String shape;
+
+    @Param({"true", "false"})
+    public boolean vectorized;
+
+    private MortgageGridInputs inputs;
+
+    @Setup
+    public void setup() {
+        String[] axes = shape.split("x");
+        int rates = Integer.parseInt(axes[0]);
+        int terms = Integer.parseInt(axes[1]);
+        int downPayments = Integer.parseInt(axes[2]);
+
+        inputs = new MortgageGridInputs();
+        inputs.setHomePrice(450_000);
+        inputs.setMinRate(0);
+        inputs.setRateStep(0.05);
+        inputs.setMaxRate(0.05 * (rates - 1));
+        inputs.setMinTermYears(1);
+        inputs.setMaxTermYears(terms);
+        double[] amounts = new double[downPayments];
+        for (int i = 0; i < downPayments; i++) {
+            amounts[i] = 20_000 + i * 25_000;
+        }
+        inputs.setDownPayments(amounts);
+
+        MortgageGrid vector = PaymentGrid.compute(inputs, true);
+        MortgageGrid scalar = PaymentGrid.compute(inputs, false);
+        if (!Arrays.equals(vector.getPaymentCents(), scalar.getPaymentCents())
+                || !Arrays.equals(vector.getTotalInterestCents(), scalar.getTotalInterestCents())) {
+            throw new IllegalStateException("Vector and scalar grids differ");
+        }
+        System.out.printf("%d cells, Vector API %s%n", scalar.getPaymentCents().length,
+                PaymentGrid.VECTORIZED ? "in use" : "unavailable");
+    }
+
+    @Benchmark
+    public MortgageGrid grid() {
+        return PaymentGrid.compute(inputs, vectorized);
+    }
+}
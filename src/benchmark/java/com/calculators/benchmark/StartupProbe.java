@@ -0,0 +1,196 @@
+package com.calculators.benchmark;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures cold start of the packaged application: the time from launching the JVM to
+ * the first successful page response, and the resident set size at that moment.
+ *
+ * Each launch mode is started several times in a fresh JVM and the median is reported.
+ * Only depends on the JDK, so the build runs it straight from source:
+ * {@code java StartupProbe.java}.
+ *
+ * System properties: startup.runs, startup.route, startup.timeoutSeconds, startup.output,
+ * and one {@code startup.mode.<name>} per launch mode, holding the java arguments
+ * separated by '|'.
+ */
+public final class StartupProbe {
+
+    private static final String MODE_PREFIX = "startup.mode.";
+
+    private StartupProbe() {}
+
+    public static void main(String[] args) throws Exception {
+        int runs = Integer.getInteger("startup.runs", 3);
+        String route = System.getProperty("startup.route", "/");
+        Duration timeout = Duration.ofSeconds(Integer.getInteger("startup.timeoutSeconds", 120));
+        Path output = Path.of(System.getProperty("startup.output", "target/fast-start/startup.json"));
+
+        Map<String, List<String>> modes = new LinkedHashMap<>();
+        System.getProperties().stringPropertyNames().stream()
+                .filter(name -> name.startsWith(MODE_PREFIX))
+                .sorted()
+                .forEach(name -> modes.put(name.substring(MODE_PREFIX.length()),
+                        Arrays.asList(System.getProperty(name).split("\\|"))));
+        if (modes.isEmpty()) {
+            throw new IllegalArgumentException("No launch modes given, expected -D" + MODE_PREFIX + "<name>=...");
+        }
+
+        String java = Path.of(System.getProperty("java.home"), "bin", "java").toString();
+        HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofMillis(200)).build();
+        Map<String, Result> results = new LinkedHashMap<>();
+        for (Map.Entry<String, List<String>> mode : modes.entrySet()) {
+            Result result = new Result(runs);
+            for (int run = 0; run < runs; run++) {
+                Sample sample = launch(java, mode.getValue(), route, client, timeout);
+                result.add(sample);
+                System.out.printf("%-12s run %d: first response in %5d ms, RSS %6.1f MB%n",
+                        mode.getKey(), run + 1, sample.millis(), sample.rssKb() / 1024.0);
+            }
+            results.put(mode.getKey(), result);
+        }
+
+        System.out.println();
+        System.out.printf("%-12s %22s %14s%n", "mode", "first response (ms)", "RSS (MB)");
+        Result baseline = results.values().iterator().next();
+        for (Map.Entry<String, Result> entry : results.entrySet()) {
+            Result result = entry.getValue();
+            System.out.printf("%-12s %22d %14.1f   %s%n", entry.getKey(), result.medianMillis(),
+                    result.medianRssKb() / 1024.0, result == baseline ? "" : String.format("%.2fx faster, %+.1f MB",
+                            (double) baseline.medianMillis() / result.medianMillis(),
+                            (result.medianRssKb() - baseline.medianRssKb()) / 1024.0));
+        }
+
+        Files.createDirectories(output.toAbsolutePath().getParent());
+        Files.writeString(output, toJson(route, results));
+        System.out.println("Results written to " + output);
+    }
+
+    private static Sample launch(String java, List<String> javaArgs, String route, HttpClient client,
+                                 Duration timeout) throws Exception {
+        int port = freePort();
+        List<String> command = new ArrayList<>();
+        command.add(java);
+        command.addAll(javaArgs);
+        command.add("--server.port=" + port);
+
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://127.0.0.1:" + port + route))
+                .timeout(Duration.ofSeconds(10))
+                .build();
+        long started = System.nanoTime();
+        Process process = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                .start();
+        try {
+            long deadline = started + timeout.toNanos();
+            while (System.nanoTime() < deadline) {
+                if (!process.isAlive()) {
+                    throw new IllegalStateException("Application exited with " + process.exitValue()
+                            + ": " + String.join(" ", command));
+                }
+                try {
+                    client.send(request, HttpResponse.BodyHandlers.discarding());
+                    long millis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+                    return new Sample(millis, residentKb(process.pid()));
+                } catch (IOException notListening) {
+                    Thread.sleep(5);
+                }
+            }
+            throw new IllegalStateException("No response within " + timeout + ": " + String.join(" ", command));
+        } finally {
+            process.destroy();
+            if (!process.waitFor(30, TimeUnit.SECONDS)) {
+                process.destroyForcibly().waitFor();
+            }
+        }
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    /**
+     * Resident set size of a process in KB, from /proc on Linux and ps elsewhere
+     */
+    private static long residentKb(long pid) throws IOException, InterruptedException {
+        Path status = Path.of("/proc", Long.toString(pid), "status");
+        if (Files.isReadable(status)) {
+            for (String line : Files.readAllLines(status)) {
+                if (line.startsWith("VmRSS:")) {
+                    return Long.parseLong(line.replaceAll("\\D", ""));
+                }
+            }
+        }
+        Process ps = new ProcessBuilder("ps", "-o", "rss=", "-p", Long.toString(pid)).start();
+        String rss = new String(ps.getInputStream().readAllBytes()).trim();
+        ps.waitFor();
+        return rss.isEmpty() ? -1 : Long.parseLong(rss);
+    }
+
+    private static String toJson(String route, Map<String, Result> results) {
+        StringBuilder json = new StringBuilder();
+        json.append("{\n  \"timestamp\": \"").append(Instant.now()).append("\",\n");
+        json.append("  \"java\": \"").append(System.getProperty("java.version")).append("\",\n");
+        json.append("  \"route\": \"").append(route).append("\",\n");
+        json.append("  \"modes\": {");
+        String separator = "\n";
+        for (Map.Entry<String, Result> entry : results.entrySet()) {
+            Result result = entry.getValue();
+            json.append(separator).append("    \"").append(entry.getKey()).append("\": {")
+                    .append("\"firstResponseMillis\": ").append(result.medianMillis())
+                    .append(", \"rssKb\": ").append(result.medianRssKb())
+                    .append(", \"runs\": ").append(result.samples.stream()
+                            .map(s -> "{\"firstResponseMillis\": " + s.millis() + ", \"rssKb\": " + s.rssKb() + "}")
+                            .toList())
+                    .append('}');
+            separator = ",\n";
+        }
+        json.append("\n  }\n}\n");
+        return json.toString();
+    }
+
+    private record Sample(long millis, long rssKb) {}
+
+    private static final class Result {
+
+        private final List<Sample> samples;
+
+        private Result(int runs) {
+            this.samples = new ArrayList<>(runs);
+        }
+
+        private void add(Sample sample) {
+            samples.add(sample);
+        }
+
+        private long medianMillis() {
+            return median(samples.stream().mapToLong(Sample::millis).sorted().toArray());
+        }
+
+        private long medianRssKb() {
+            return median(samples.stream().mapToLong(Sample::rssKb).sorted().toArray());
+        }
+
+        private static long median(long[] sorted) {
+            return sorted[sorted.length / 2];
+        }
+    }
+}
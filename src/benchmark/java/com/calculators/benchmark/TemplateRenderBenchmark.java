@@ -0,0 +1,70 @@
+package com.calculators.benchmark;
+
+import jakarta.servlet.ServletContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.mock.web.MockServletContext;
+import org.springframework.ui.ExtendedModelMap;
+import org.thymeleaf.context.WebContext;
+import org.thymeleaf.spring6.SpringTemplateEngine;
+import org.thymeleaf.spring6.expression.ThymeleafEvaluationContext;
+import org.thymeleaf.web.servlet.JakartaServletWebApplication;
+
+import java.io.Writer;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of rendering each route's Thymeleaf view, layout and fragments included
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TemplateRenderBenchmark {
+
+    @Param({"/", "/about", "/contact", "/tools",
+            "/calculators/mortgage", "/calculators/bmi", "/calculators/loan", "/calculators/tax",
+            "/calculators/investment", "/calculators/retirement", "/calculators/percentage",
+            "/calculators/compound-interest", "/calculators/calorie", "/calculators/body-fat",
+            "/calculators/unit-converter"})
+    public String route;
+
+    private SpringTemplateEngine templateEngine;
+    private String viewName;
+    private WebContext context;
+    private final Writer sink = Writer.nullWriter();
+
+    @Setup
+    public void setup() {
+        ConfigurableApplicationContext applicationContext = BenchmarkRoutes.context();
+        templateEngine = applicationContext.getBean(SpringTemplateEngine.class);
+
+        ExtendedModelMap model = new ExtendedModelMap();
+        viewName = BenchmarkRoutes.handler(applicationContext, route).apply(model);
+
+        ServletContext servletContext = new MockServletContext();
+        MockHttpServletRequest request = new MockHttpServletRequest(servletContext, "GET", route);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        JakartaServletWebApplication application = JakartaServletWebApplication.buildApplication(servletContext);
+        context = new WebContext(application.buildExchange(request, response), Locale.US, model);
+        context.setVariable(ThymeleafEvaluationContext.THYMELEAF_EVALUATION_CONTEXT_CONTEXT_VARIABLE_NAME,
+                new ThymeleafEvaluationContext(applicationContext, null));
+
+        // Fail fast in setup if the view cannot be rendered at all
+        templateEngine.process(viewName, context, sink);
+    }
+
+    @Benchmark
+    public void render() {
+        templateEngine.process(viewName, context, sink);
+    }
+}
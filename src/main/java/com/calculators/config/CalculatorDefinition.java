@@ -0,0 +1,50 @@
+package com.calculators.config;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Singular;
+
+import java.util.List;
+
+/**
+ * Static description of one calculator: listing metadata, SEO copy, page assets and
+ * the inputs that result permalinks encode
+ */
+@Getter
+public class CalculatorDefinition {
+    private final String slug;
+    private final String name;
+    private final String icon;
+    private final String category;
+    private final String description;
+    private final String title;
+    private final String metaDescription;
+    private final String keywords;
+    private final List<String> css;
+    private final List<String> js;
+    private final boolean featured;
+    private final List<InputField> inputs;
+    private final String url;
+    private final String viewName;
+
+    @Builder
+    private CalculatorDefinition(String slug, String name, String icon, String category, String description,
+                                 String title, String metaDescription, String keywords,
+                                 @Singular("css") List<String> css, @Singular("js") List<String> js,
+                                 boolean featured, @Singular List<InputField> inputs) {
+        this.slug = slug;
+        this.name = name;
+        this.icon = icon;
+        this.category = category;
+        this.description = description;
+        this.title = title;
+        this.metaDescription = metaDescription;
+        this.keywords = keywords;
+        this.css = css;
+        this.js = js;
+        this.featured = featured;
+        this.inputs = inputs;
+        this.url = "/calculators/" + slug;
+        this.viewName = "calculators/" + slug;
+    }
+}
@@ -0,0 +1,289 @@
+package com.calculators.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Every calculator the site offers, built once at startup.
+ *
+ * Drives the calculator routes, the tools listing and the featured section of the
+ * home page; adding a calculator means adding an entry to {@link #DEFINITIONS}.
+ */
+@Component
+public class CalculatorRegistry {
+
+    private static final String BASE_CSS = "/css/calculators/base-calculator.css";
+    private static final String BASE_JS = "/js/calculators/base-calculator.js";
+
+    private static final List<CalculatorDefinition> DEFINITIONS = List.of(
+            CalculatorDefinition.builder()
+                    .slug("mortgage")
+                    .name("Mortgage Calculator")
+                    .icon("🏠")
+                    .category("Finance")
+                    .description("Calculate monthly payments and amortization schedules")
+                    .title("Mortgage Calculator - Calculate Monthly Payments & Amortization")
+                    .metaDescription("Free mortgage calculator with amortization schedule. Calculate monthly payments, total interest, and compare loan scenarios. Includes property taxes, insurance, PMI, and extra payments.")
+                    .keywords("mortgage calculator, home loan calculator, monthly payment calculator, amortization schedule, mortgage payment, loan calculator, home financing, mortgage rates, property tax calculator, PMI calculator")
+                    .css(BASE_CSS).css("/css/calculators/mortgage.css")
+                    .js(BASE_JS).js("/js/calculators/mortgage.js")
+                    .js("/js/calculators/amortization-session.js")
+                    .featured(true)
+                    .input(InputField.money("homePrice", 400_000))
+                    .input(InputField.money("downPayment", 80_000))
+                    .input(InputField.rate("interestRate", 6.5))
+                    .input(InputField.integer("termYears", 30))
+                    .input(InputField.rate("propertyTaxRate", 1.2))
+                    .input(InputField.money("annualInsurance", 1_500))
+                    .input(InputField.rate("pmiRate", 0.5))
+                    .input(InputField.money("extraMonthly", 0))
+                    .input(InputField.money("extraYearly", 0))
+                    .input(InputField.money("extraOneTime", 0))
+                    .input(InputField.integer("extraOneTimeMonth", 0))
+                    .build(),
+            CalculatorDefinition.builder()
+                    .slug("bmi")
+                    .name("BMI Calculator")
+                    .icon("⚖️")
+                    .category("Health")
+                    .description("Calculate your Body Mass Index and health status")
+                    .title("BMI Calculator - Body Mass Index Calculator")
+                    .metaDescription("Calculate your Body Mass Index (BMI) and understand your weight status with our easy-to-use BMI calculator. Supports both metric and imperial units.")
+                    .keywords("BMI calculator, body mass index, weight calculator, health calculator, obesity calculator, underweight calculator, normal weight")
+                    .css(BASE_CSS).css("/css/calculators/bmi.css")
+                    .js(BASE_JS).js("/js/calculators/bmi.js")
+                    .featured(true)
+                    .input(InputField.choice("units", "metric", "imperial"))
+                    .input(InputField.number("height", 175))
+                    .input(InputField.number("weight", 70))
+                    .build(),
+            CalculatorDefinition.builder()
+                    .slug("loan")
+                    .name("Loan Calculator")
+                    .icon("💰")
+                    .category("Finance")
+                    .description("Calculate loan payments and total interest costs")
+                    .title("Loan Calculator - Personal & Auto Loan Payment Calculator")
+                    .metaDescription("Calculate loan payments, interest rates, and repayment schedules for personal loans, auto loans, and more. Compare different loan terms and rates.")
+                    .keywords("loan calculator, personal loan calculator, auto loan calculator, payment calculator, loan payment, interest calculator, car loan calculator")
+                    .css(BASE_CSS)
+                    .js(BASE_JS).js("/js/calculators/loan.js")
+                    .js("/js/calculators/amortization-session.js")
+                    .featured(true)
+                    .input(InputField.money("amount", 20_000))
+                    .input(InputField.rate("interestRate", 7))
+                    .input(InputField.integer("termMonths", 60))
+                    .input(InputField.money("fees", 0))
+                    .build(),
+            CalculatorDefinition.builder()
+                    .slug("tax")
+                    .name("Tax Calculator")
+                    .icon("📊")
+                    .category("Finance")
+                    .description("Estimate your tax liability and refunds")
+                    .title("Tax Calculator - Income Tax Estimator")
+                    .metaDescription("Estimate your federal and state income taxes, calculate tax refunds, and plan your tax strategy with our comprehensive tax calculator.")
+                    .keywords("tax calculator, income tax calculator, tax estimator, tax refund calculator, federal tax, state tax, tax planning")
+                    .css(BASE_CSS)
+                    .js(BASE_JS).js("/js/calculators/tax.js")
+                    .input(InputField.choice("filingStatus", "single", "married_joint", "married_separate", "head_of_household"))
+                    .input(InputField.money("wages", 75_000))
+                    .input(InputField.money("otherIncome", 0))
+                    .input(InputField.money("preTaxDeductions", 0))
+                    .input(InputField.money("itemizedDeductions", 0))
+                    .input(InputField.money("credits", 0))
+                    .input(InputField.rate("stateRate", 0))
+                    .build(),
+            CalculatorDefinition.builder()
+                    .slug("investment")
+                    .name("Investment Calculator")
+                    .icon("📈")
+                    .category("Finance")
+                    .description("Calculate investment returns and compound growth")
+                    .title("Investment Calculator - Compound Interest & Returns")
+                    .metaDescription("Calculate investment returns, compound interest, and future value of your investments. Plan your financial goals with our investment calculator.")
+                    .keywords("investment calculator, compound interest calculator, retirement calculator, savings calculator, investment returns, financial planning")
+                    .css(BASE_CSS)
+                    .js(BASE_JS).js("/js/calculators/investment.js")
+                    .input(InputField.money("initialAmount", 10_000))
+                    .input(InputField.money("monthlyContribution", 500))
+                    .input(InputField.rate("contributionIncrease", 0))
+                    .input(InputField.rate("annualReturn", 7))
+                    .input(InputField.rate("expenseRatio", 0))
+                    .input(InputField.integer("years", 20))
+                    .build(),
+            CalculatorDefinition.builder()
+                    .slug("retirement")
+                    .name("Retirement Calculator")
+                    .icon("🏖️")
+                    .category("Finance")
+                    .description("Plan your retirement savings and income needs")
+                    .title("Retirement Calculator - Plan Your Retirement Savings")
+                    .metaDescription("Calculate how much you need to save for retirement, estimate retirement income, and plan your retirement strategy.")
+                    .keywords("retirement calculator, retirement planning, 401k calculator, retirement savings, pension calculator, retirement income")
+                    .css(BASE_CSS)
+                    .js(BASE_JS).js("/js/calculators/retirement.js")
+                    .js("/js/calculators/retirement-simulation.js")
+                    .input(InputField.integer("currentAge", 35))
+                    .input(InputField.integer("retirementAge", 65))
+                    .input(InputField.integer("lifeExpectancy", 90))
+                    .input(InputField.money("currentSavings", 50_000))
+                    .input(InputField.money("annualContribution", 12_000))
+                    .input(InputField.rate("contributionGrowth", 2))
+                    .input(InputField.money("annualWithdrawal", 60_000))
+                    .input(InputField.rate("inflationRate", 2.5))
+                    .input(InputField.rate("expectedReturn", 7))
+                    .input(InputField.rate("volatility", 15))
+                    .build(),
+            CalculatorDefinition.builder()
+                    .slug("percentage")
+                    .name("Percentage Calculator")
+                    .icon("➗")
+                    .category("Math")
+                    .description("Work out percentages, increases and decreases")
+                    .title("Percentage Calculator - Calculate Percentages & Changes")
+                    .metaDescription("Calculate percentages, percentage increases, decreases, and percentage of a number with our easy-to-use percentage calculator.")
+                    .keywords("percentage calculator, percent calculator, percentage increase, percentage decrease, percent change calculator")
+                    .css(BASE_CSS)
+                    .js(BASE_JS).js("/js/calculators/percentage.js")
+                    .input(InputField.choice("mode", "of", "ratio", "change"))
+                    .input(InputField.number("x", 10))
+                    .input(InputField.number("y", 200))
+                    .build(),
+            CalculatorDefinition.builder()
+                    .slug("compound-interest")
+                    .name("Compound Interest Calculator")
+                    .icon("💹")
+                    .category("Finance")
+                    .description("See how savings grow with regular contributions")
+                    .title("Compound Interest Calculator - Investment Growth Calculator")
+                    .metaDescription("Calculate compound interest and see how your investments grow over time. Includes regular contributions and different compounding frequencies.")
+                    .keywords("compound interest calculator, investment growth, savings calculator, compound growth, investment returns")
+                    .css(BASE_CSS)
+                    .js(BASE_JS).js("/js/calculators/compound-interest.js")
+                    .input(InputField.money("principal", 10_000))
+                    .input(InputField.rate("annualRate", 5))
+                    .input(InputField.integer("compoundsPerYear", 12))
+                    .input(InputField.integer("years", 10))
+                    .input(InputField.money("monthlyContribution", 0))
+                    .build(),
+            CalculatorDefinition.builder()
+                    .slug("calorie")
+                    .name("Calorie Calculator")
+                    .icon("🍎")
+                    .category("Health")
+                    .description("Estimate daily calorie needs for your weight goals")
+                    .title("Calorie Calculator - Daily Calorie Needs & Weight Goals")
+                    .metaDescription("Calculate your daily calorie needs based on age, gender, activity level, and weight goals. Plan your diet and fitness routine.")
+                    .keywords("calorie calculator, daily calorie needs, weight loss calculator, BMR calculator, TDEE calculator, diet calculator")
+                    .css(BASE_CSS)
+                    .js(BASE_JS).js("/js/calculators/calorie.js")
+                    .input(InputField.choice("sex", "male", "female"))
+                    .input(InputField.integer("age", 30))
+                    .input(InputField.number("height", 175))
+                    .input(InputField.number("weight", 70))
+                    .input(InputField.choice("activity", "sedentary", "light", "moderate", "active", "very_active"))
+                    .input(InputField.choice("goal", "maintain", "lose", "gain"))
+                    .build(),
+            CalculatorDefinition.builder()
+                    .slug("body-fat")
+                    .name("Body Fat Calculator")
+                    .icon("💪")
+                    .category("Health")
+                    .description("Estimate your body fat percentage")
+                    .title("Body Fat Calculator - Estimate Body Fat Percentage")
+                    .metaDescription("Calculate your body fat percentage using various measurement methods. Track your fitness progress and body composition.")
+                    .keywords("body fat calculator, body fat percentage, body composition, fitness calculator, health calculator")
+                    .css(BASE_CSS)
+                    .js(BASE_JS).js("/js/calculators/body-fat.js")
+                    .input(InputField.choice("sex", "male", "female"))
+                    .input(InputField.number("height", 175))
+                    .input(InputField.number("waist", 85))
+                    .input(InputField.number("neck", 38))
+                    .input(InputField.number("hip", 95))
+                    .build(),
+            CalculatorDefinition.builder()
+                    .slug("unit-converter")
+                    .name("Unit Converter")
+                    .icon("📏")
+                    .category("Conversion")
+                    .description("Convert length, weight, volume and temperature units")
+                    .title("Unit Converter - Convert Between Units of Measurement")
+                    .metaDescription("Convert between different units of length, weight, temperature, volume, and more. Comprehensive unit conversion tool.")
+                    .keywords("unit converter, measurement converter, length converter, weight converter, temperature converter, metric converter")
+                    .css(BASE_CSS)
+                    .js(BASE_JS).js("/js/calculators/unit-converter.js")
+                    .input(InputField.text("from", "m"))
+                    .input(InputField.text("to", "ft"))
+                    .input(InputField.number("value", 1))
+                    .build()
+    );
+
+    /** Site pages served by the home controller */
+    private static final List<String> SITE_PAGES = List.of("/", "/about", "/contact", "/tools");
+
+    private final Map<String, CalculatorDefinition> calculators;
+    private final Map<String, PageConfig> pageConfigs;
+    private final List<CalculatorDefinition> featured;
+    private final List<String> pageRoutes;
+
+    public CalculatorRegistry(@Value("${app.name}") String appName, @Value("${app.url}") String appUrl) {
+        Map<String, CalculatorDefinition> calculators = new LinkedHashMap<>();
+        Map<String, PageConfig> pageConfigs = new LinkedHashMap<>();
+        for (CalculatorDefinition definition : DEFINITIONS) {
+            calculators.put(definition.getSlug(), definition);
+            pageConfigs.put(definition.getSlug(), PageConfig.builder()
+                    .title(definition.getTitle() + " - " + appName)
+                    .description(definition.getMetaDescription())
+                    .keywords(definition.getKeywords())
+                    .breadcrumbs(List.of("Home", "Tools", definition.getName()))
+                    .canonicalUrl(appUrl + definition.getUrl())
+                    .customCss(definition.getCss())
+                    .customJs(definition.getJs())
+                    .hideLeftSidebar() // More space for calculator
+                    .build());
+        }
+        this.calculators = Collections.unmodifiableMap(calculators);
+        this.pageConfigs = Collections.unmodifiableMap(pageConfigs);
+        this.featured = DEFINITIONS.stream().filter(CalculatorDefinition::isFeatured).toList();
+
+        List<String> pageRoutes = new ArrayList<>(SITE_PAGES);
+        DEFINITIONS.forEach(definition -> pageRoutes.add(definition.getUrl()));
+        this.pageRoutes = List.copyOf(pageRoutes);
+    }
+
+    /**
+     * @return the calculator registered under the slug, or null
+     */
+    public CalculatorDefinition find(String slug) {
+        return calculators.get(slug);
+    }
+
+    /**
+     * @return the page configuration for the slug, or null
+     */
+    public PageConfig getPageConfig(String slug) {
+        return pageConfigs.get(slug);
+    }
+
+    public List<CalculatorDefinition> getCalculators() {
+        return DEFINITIONS;
+    }
+
+    public List<CalculatorDefinition> getFeatured() {
+        return featured;
+    }
+
+    /**
+     * Every page route of the site, for the sitemap and static export
+     */
+    public List<String> getPageRoutes() {
+        return pageRoutes;
+    }
+}
@@ -0,0 +1,79 @@
+package com.calculators.config;
+
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * One input of a calculator, as encoded in result permalinks.
+ *
+ * Numeric inputs are stored as fixed-point integers at the field's scale; choices are
+ * stored as the index of the option. Fields may only be appended to a calculator's
+ * list, never reordered or removed, or existing permalinks would decode differently.
+ */
+@Getter
+public class InputField {
+
+    public enum Kind {
+        /** Dollar amount in cents */
+        MONEY(100),
+        /** Percentage to four decimals */
+        RATE(10_000),
+        /** Measurement to two decimals */
+        NUMBER(100),
+        INTEGER(1),
+        /** One of a fixed list of options */
+        CHOICE(1),
+        /** Short ASCII text such as a unit code */
+        TEXT(1);
+
+        private final long scale;
+
+        Kind(long scale) {
+            this.scale = scale;
+        }
+
+        public long getScale() {
+            return scale;
+        }
+    }
+
+    private final String name;
+    private final Kind kind;
+    private final Object defaultValue;
+    private final List<String> options;
+
+    private InputField(String name, Kind kind, Object defaultValue, List<String> options) {
+        this.name = name;
+        this.kind = kind;
+        this.defaultValue = defaultValue;
+        this.options = options;
+    }
+
+    public static InputField money(String name, double defaultValue) {
+        return new InputField(name, Kind.MONEY, defaultValue, List.of());
+    }
+
+    public static InputField rate(String name, double defaultValue) {
+        return new InputField(name, Kind.RATE, defaultValue, List.of());
+    }
+
+    public static InputField number(String name, double defaultValue) {
+        return new InputField(name, Kind.NUMBER, defaultValue, List.of());
+    }
+
+    public static InputField integer(String name, int defaultValue) {
+        return new InputField(name, Kind.INTEGER, defaultValue, List.of());
+    }
+
+    /**
+     * The first option is the default
+     */
+    public static InputField choice(String name, String... options) {
+        return new InputField(name, Kind.CHOICE, options[0], List.of(options));
+    }
+
+    public static InputField text(String name, String defaultValue) {
+        return new InputField(name, Kind.TEXT, defaultValue, List.of());
+    }
+}
@@ -1,13 +1,15 @@
 package com.calculators.config;
 
 import lombok.Getter;
-import lombok.Setter;
 
 import java.util.List;
 import java.util.Map;
 
+/**
+ * Per-page metadata and layout options. Instances are immutable once built,
+ * so a single instance can be created at startup and shared by every request.
+ */
 @Getter
-@Setter
 public class PageConfig {
     private String title;
     private String description;
@@ -22,12 +24,7 @@ public class PageConfig {
     private boolean showRightSidebar = true;
 
     // Constructors
-    public PageConfig() {}
-
-    public PageConfig(String title, String description) {
-        this.title = title;
-        this.description = description;
-    }
+    private PageConfig() {}
 
     // Builder pattern for easy configuration
     public static PageConfigBuilder builder() {
@@ -99,7 +96,19 @@ public class PageConfig {
         }
 
         public PageConfig build() {
-            return config;
+            PageConfig frozen = new PageConfig();
+            frozen.title = config.title;
+            frozen.description = config.description;
+            frozen.keywords = config.keywords;
+            frozen.canonicalUrl = config.canonicalUrl;
+            frozen.ogImage = config.ogImage;
+            frozen.breadcrumbs = config.breadcrumbs != null ? List.copyOf(config.breadcrumbs) : null;
+            frozen.customCss = config.customCss != null ? List.copyOf(config.customCss) : null;
+            frozen.customJs = config.customJs != null ? List.copyOf(config.customJs) : null;
+            frozen.customData = config.customData != null ? Map.copyOf(config.customData) : null;
+            frozen.showLeftSidebar = config.showLeftSidebar;
+            frozen.showRightSidebar = config.showRightSidebar;
+            return frozen;
         }
     }
 }
\ No newline at end of file
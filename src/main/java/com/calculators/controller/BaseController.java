@@ -1,9 +1,14 @@
 package com.calculators.controller;
 
 import com.calculators.config.PageConfig;
+import com.calculators.web.AssetPipeline;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.ui.Model;
 
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 
 public abstract class BaseController {
@@ -29,6 +34,9 @@ public abstract class BaseController {
     @Value("${seo.og-image}")
     protected String defaultOgImage;
 
+    @Autowired
+    protected AssetPipeline assetPipeline;
+
     /**
      * Set up common model attributes for all pages
      */
@@ -40,43 +48,61 @@ public abstract class BaseController {
      * Set up common model attributes for all pages with active page indicator
      */
     protected void setupBasePage(Model model, PageConfig config, String activePage) {
+        model.addAllAttributes(buildBaseAttributes(config, activePage));
+    }
+
+    /**
+     * Build the common model attributes for a page once, so handlers for pages
+     * that never change can reuse the same immutable map on every request
+     */
+    protected Map<String, Object> buildBaseAttributes(PageConfig config, String activePage) {
+        Map<String, Object> attributes = new LinkedHashMap<>();
+
         // App configuration
-        model.addAttribute("appName", appName);
-        model.addAttribute("appTitle", appTitle);
-        model.addAttribute("appDescription", appDescription);
-        model.addAttribute("appUrl", appUrl);
-        model.addAttribute("appAuthor", appAuthor);
+        attributes.put("appName", appName);
+        attributes.put("appTitle", appTitle);
+        attributes.put("appDescription", appDescription);
+        attributes.put("appUrl", appUrl);
+        attributes.put("appAuthor", appAuthor);
 
         // Page configuration with defaults
-        model.addAttribute("pageTitle", config.getTitle() != null ? config.getTitle() : appTitle);
-        model.addAttribute("pageDescription", config.getDescription() != null ? config.getDescription() : appDescription);
-        model.addAttribute("pageKeywords", config.getKeywords() != null ? config.getKeywords() : defaultKeywords);
-        model.addAttribute("canonicalUrl", config.getCanonicalUrl() != null ? config.getCanonicalUrl() : appUrl);
-        model.addAttribute("ogImage", config.getOgImage() != null ? config.getOgImage() : defaultOgImage);
+        attributes.put("pageTitle", config.getTitle() != null ? config.getTitle() : appTitle);
+        attributes.put("pageDescription", config.getDescription() != null ? config.getDescription() : appDescription);
+        attributes.put("pageKeywords", config.getKeywords() != null ? config.getKeywords() : defaultKeywords);
+        attributes.put("canonicalUrl", config.getCanonicalUrl() != null ? config.getCanonicalUrl() : appUrl);
+        attributes.put("ogImage", config.getOgImage() != null ? config.getOgImage() : defaultOgImage);
 
         // Layout configuration
-        model.addAttribute("showLeftSidebar", config.isShowLeftSidebar());
-        model.addAttribute("showRightSidebar", config.isShowRightSidebar());
+        attributes.put("showLeftSidebar", config.isShowLeftSidebar());
+        attributes.put("showRightSidebar", config.isShowRightSidebar());
 
         // Active page for navigation
-        model.addAttribute("activePage", activePage);
+        attributes.put("activePage", activePage);
 
-        // Custom resources
-        model.addAttribute("customCss", config.getCustomCss());
-        model.addAttribute("customJs", config.getCustomJs());
+        // Custom resources, linked by their content-hashed URLs
+        attributes.put("customCss", assetUrls(config.getCustomCss()));
+        attributes.put("customJs", assetUrls(config.getCustomJs()));
+        attributes.put("cssBundle", assetPipeline.bundle(config.getCustomCss()));
+        attributes.put("jsBundle", assetPipeline.bundle(config.getCustomJs()));
 
         // Breadcrumbs
-        model.addAttribute("breadcrumbs", config.getBreadcrumbs());
+        attributes.put("breadcrumbs", config.getBreadcrumbs());
 
         // Custom data
         if (config.getCustomData() != null) {
-            for (Map.Entry<String, Object> entry : config.getCustomData().entrySet()) {
-                model.addAttribute(entry.getKey(), entry.getValue());
-            }
+            attributes.putAll(config.getCustomData());
         }
 
         // Page-specific configuration
-        model.addAttribute("pageConfig", config);
+        attributes.put("pageConfig", config);
+        return Collections.unmodifiableMap(attributes);
+    }
+
+    private List<String> assetUrls(List<String> paths) {
+        if (paths == null) {
+            return null;
+        }
+        return paths.stream().map(assetPipeline::url).toList();
     }
 
     /**
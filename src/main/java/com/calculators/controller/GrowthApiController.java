@@ -0,0 +1,39 @@
+package com.calculators.controller;
+
+import com.calculators.service.CalculationService;
+import com.calculators.service.CompoundInterestInputs;
+import com.calculators.service.GrowthResult;
+import com.calculators.service.InvestmentInputs;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.ModelAttribute;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+@RestController
+public class GrowthApiController {
+
+    private final CalculationService calculationService;
+
+    public GrowthApiController(CalculationService calculationService) {
+        this.calculationService = calculationService;
+    }
+
+    @GetMapping("/calculators/investment/summary")
+    public GrowthResult investment(@ModelAttribute InvestmentInputs inputs) {
+        try {
+            return calculationService.investment(inputs);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+    }
+
+    @GetMapping("/calculators/compound-interest/summary")
+    public GrowthResult compoundInterest(@ModelAttribute CompoundInterestInputs inputs) {
+        try {
+            return calculationService.compoundInterest(inputs);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+    }
+}
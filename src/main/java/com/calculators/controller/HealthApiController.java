@@ -0,0 +1,272 @@
+package com.calculators.controller;
+
+import com.calculators.io.DataFormat;
+import com.calculators.io.RecordWriter;
+import com.calculators.io.RowReader;
+import com.calculators.service.ComputePool;
+import com.calculators.service.HealthBatch;
+import com.calculators.service.HealthBulkService;
+import com.calculators.service.HealthFormulas;
+import com.calculators.service.HealthMetric;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+
+@RestController
+@RequestMapping("/calculators")
+public class HealthApiController {
+
+    private static final String[] INPUT_COLUMNS = {
+            "id", "sex", "units", "age", "height", "weight", "waist", "neck", "hip", "activity", "goal"
+    };
+    private static final int ID = 0;
+    private static final int SEX = 1;
+    private static final int UNITS = 2;
+    private static final int AGE = 3;
+    private static final int HEIGHT = 4;
+    private static final int WEIGHT = 5;
+    private static final int WAIST = 6;
+    private static final int NECK = 7;
+    private static final int HIP = 8;
+    private static final int ACTIVITY = 9;
+    private static final int GOAL = 10;
+
+    private static final String[] BMI_COLUMNS = {"row", "id", "bmi", "category", "error"};
+    private static final String[] BODY_FAT_COLUMNS = {"row", "id", "bodyFat", "category", "error"};
+    private static final String[] CALORIE_COLUMNS = {"row", "id", "bmr", "maintenance", "calories", "goal", "error"};
+
+    private final HealthBulkService healthBulkService;
+
+    public HealthApiController(HealthBulkService healthBulkService) {
+        this.healthBulkService = healthBulkService;
+    }
+
+    /**
+     * BMI and weight category per row. Columns: id, units (metric or imperial), height, weight.
+     */
+    @PostMapping("/bmi/bulk")
+    public void bmi(HttpServletRequest request, HttpServletResponse response,
+                    @RequestParam(required = false) String format) throws IOException {
+        bulk(HealthMetric.BMI, request, response, format);
+    }
+
+    /**
+     * Body fat percentage and category per row. Columns: id, sex, height, waist, neck, hip (cm).
+     */
+    @PostMapping("/body-fat/bulk")
+    public void bodyFat(HttpServletRequest request, HttpServletResponse response,
+                        @RequestParam(required = false) String format) throws IOException {
+        bulk(HealthMetric.BODY_FAT, request, response, format);
+    }
+
+    /**
+     * Daily calorie needs per row. Columns: id, sex, age, height (cm), weight (kg), activity, goal.
+     */
+    @PostMapping("/calorie/bulk")
+    public void calorie(HttpServletRequest request, HttpServletResponse response,
+                        @RequestParam(required = false) String format) throws IOException {
+        bulk(HealthMetric.CALORIE, request, response, format);
+    }
+
+    /**
+     * Stream a CSV or NDJSON upload through one of the health formulas.
+     *
+     * The upload is read in blocks of {@link HealthBulkService#BLOCK_ROWS} rows into
+     * columnar arrays. While one block is computed on every core the next one is parsed,
+     * and a block is written before another is read, so at most two blocks are held and a
+     * slow client slows down reading of the upload rather than filling memory. Invalid
+     * rows are reported in the error column instead of failing the whole file, and an upload
+     * that turns malformed after some rows ends with a row reporting the problem. One compute
+     * permit is held for the whole upload, so a busy pool turns it away with 429 before
+     * any output is written rather than cutting it off part way.
+     */
+    private void bulk(HealthMetric metric, HttpServletRequest request, HttpServletResponse response,
+                      String format) throws IOException {
+        DataFormat inputFormat = DataFormat.fromContentType(request.getContentType());
+        DataFormat outputFormat;
+        try {
+            outputFormat = format == null ? inputFormat : DataFormat.from(format);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+
+        try (RowReader reader = RowReader.open(inputFormat, request.getInputStream(), INPUT_COLUMNS);
+             ComputePool.Lease lease = healthBulkService.lease()) {
+            response.setContentType(outputFormat.getContentType());
+            RecordWriter writer = new RecordWriter(response.getOutputStream(), outputFormat, columns(metric));
+            HealthBatch batch = new HealthBatch(HealthBulkService.BLOCK_ROWS);
+            HealthBatch spare = new HealthBatch(HealthBulkService.BLOCK_ROWS);
+            boolean more = fill(metric, reader, batch);
+            while (batch.getSize() > 0) {
+                CompletableFuture<HealthBatch> computed = healthBulkService.submit(lease, metric, batch);
+                if (more) {
+                    more = fill(metric, reader, spare);
+                } else {
+                    spare.clear();
+                }
+                join(computed);
+                write(metric, batch, writer);
+                HealthBatch written = batch;
+                batch = spare;
+                spare = written;
+            }
+            writer.finish();
+        } catch (IllegalArgumentException e) {
+            if (response.isCommitted()) {
+                throw e;
+            }
+            // Drop the CSV/NDJSON content type so the error body can be rendered
+            response.reset();
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        } catch (RejectedExecutionException e) {
+            if (response.isCommitted()) {
+                throw e;
+            }
+            response.reset();
+            throw new ResponseStatusException(HttpStatus.TOO_MANY_REQUESTS, e.getMessage());
+        }
+    }
+
+    private static String[] columns(HealthMetric metric) {
+        return switch (metric) {
+            case BMI -> BMI_COLUMNS;
+            case BODY_FAT -> BODY_FAT_COLUMNS;
+            case CALORIE -> CALORIE_COLUMNS;
+        };
+    }
+
+    private static void join(CompletableFuture<HealthBatch> computed) {
+        try {
+            computed.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Calculation failed", e.getCause());
+        }
+    }
+
+    /**
+     * Read up to a block of rows into the batch's columns. Once rows have been read, a
+     * malformed or truncated upload becomes a final row carrying the error.
+     *
+     * @return false once the upload is exhausted or broken off
+     */
+    private boolean fill(HealthMetric metric, RowReader reader, HealthBatch batch) throws IOException {
+        batch.clear();
+        long[] rowNumbers = batch.getRowNumbers();
+        String[] errors = batch.getErrors();
+        while (!batch.isFull()) {
+            int row = batch.getSize();
+            try {
+                if (!reader.next()) {
+                    return false;
+                }
+            } catch (IllegalArgumentException e) {
+                if (reader.getRowNumber() == 0) {
+                    throw e;
+                }
+                rowNumbers[row] = reader.getRowNumber() + 1;
+                batch.getIds().addNull();
+                errors[row] = e.getMessage();
+                batch.setSize(row + 1);
+                return false;
+            }
+            rowNumbers[row] = reader.getRowNumber();
+            reader.copyText(ID, batch.getIds());
+            errors[row] = read(metric, reader, batch, row);
+            batch.setSize(row + 1);
+        }
+        return true;
+    }
+
+    /**
+     * Bind one row's measurements
+     *
+     * @return a description of what is wrong with the row, or null if it is valid
+     */
+    private String read(HealthMetric metric, RowReader reader, HealthBatch batch, int row) {
+        try {
+            if (metric == HealthMetric.BMI) {
+                int units = reader.has(UNITS) ? reader.choice(UNITS, HealthFormulas.UNIT_CODES) : HealthFormulas.METRIC;
+                if (units < 0) {
+                    return "Unknown units";
+                }
+                batch.getUnits()[row] = (byte) units;
+            } else {
+                int sex = reader.choice(SEX, HealthFormulas.SEX_CODES);
+                if (sex < 0) {
+                    return "Unknown sex";
+                }
+                batch.getSex()[row] = (byte) (sex % 2);
+            }
+            batch.getHeight()[row] = reader.getDouble(HEIGHT, Double.NaN);
+            switch (metric) {
+                case BMI -> batch.getWeight()[row] = reader.getDouble(WEIGHT, Double.NaN);
+                case BODY_FAT -> {
+                    batch.getWaist()[row] = reader.getDouble(WAIST, Double.NaN);
+                    batch.getNeck()[row] = reader.getDouble(NECK, Double.NaN);
+                    batch.getHip()[row] = reader.getDouble(HIP, Double.NaN);
+                }
+                case CALORIE -> {
+                    batch.getWeight()[row] = reader.getDouble(WEIGHT, Double.NaN);
+                    batch.getAge()[row] = reader.getDouble(AGE, Double.NaN);
+                    int activity = reader.has(ACTIVITY) ? reader.choice(ACTIVITY, HealthFormulas.ACTIVITY_CODES) : 0;
+                    if (activity < 0) {
+                        return "Unknown activity";
+                    }
+                    int goal = reader.has(GOAL) ? reader.choice(GOAL, HealthFormulas.GOAL_CODES) : 0;
+                    if (goal < 0) {
+                        return "Unknown goal";
+                    }
+                    batch.getActivity()[row] = (byte) activity;
+                    batch.getGoal()[row] = (byte) goal;
+                }
+            }
+            return null;
+        } catch (IllegalArgumentException e) {
+            return e.getMessage();
+        }
+    }
+
+    private void write(HealthMetric metric, HealthBatch batch, RecordWriter writer) throws IOException {
+        String[] categories = HealthFormulas.categories(metric);
+        long[] rowNumbers = batch.getRowNumbers();
+        String[] errors = batch.getErrors();
+        double[] value = batch.getValue();
+        byte[] category = batch.getCategory();
+        int results = metric == HealthMetric.CALORIE ? 4 : 2;
+        for (int row = 0; row < batch.getSize(); row++) {
+            writer.beginRecord();
+            writer.field(rowNumbers[row]);
+            batch.getIds().write(row, writer);
+            if (errors[row] != null) {
+                for (int i = 0; i < results; i++) {
+                    writer.nullField();
+                }
+                writer.field(errors[row]);
+            } else {
+                if (metric == HealthMetric.CALORIE) {
+                    writer.field(batch.getBmr()[row], 0);
+                    writer.field(batch.getMaintenance()[row], 0);
+                    writer.field(value[row], 0);
+                } else {
+                    writer.field(value[row], 1);
+                }
+                writer.field(categories[category[row]]);
+                writer.nullField();
+            }
+            writer.endRecord();
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.calculators.controller;
+
+import com.calculators.service.CalculationService;
+import com.calculators.service.LoanBatchResult;
+import com.calculators.service.LoanBatchService;
+import com.calculators.service.LoanResult;
+import com.calculators.service.LoanScenario;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.ModelAttribute;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+
+@RestController
+@RequestMapping("/calculators/loan")
+public class LoanApiController {
+
+    private final LoanBatchService loanBatchService;
+    private final CalculationService calculationService;
+
+    public LoanApiController(LoanBatchService loanBatchService, CalculationService calculationService) {
+        this.loanBatchService = loanBatchService;
+        this.calculationService = calculationService;
+    }
+
+    /**
+     * Payment, interest and APR for a single loan, served from the result cache
+     */
+    @GetMapping("/summary")
+    public LoanResult summary(@ModelAttribute LoanScenario scenario) {
+        try {
+            return calculationService.loan(scenario);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+    }
+
+    /**
+     * Evaluate a list of loan offers and rank them by APR
+     */
+    @PostMapping("/batch")
+    public LoanBatchResult batch(@RequestBody List<LoanScenario> scenarios) {
+        try {
+            return loanBatchService.evaluate(scenarios);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        } catch (RejectedExecutionException e) {
+            throw new ResponseStatusException(HttpStatus.TOO_MANY_REQUESTS, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.calculators.controller;
+
+import com.calculators.io.DataFormat;
+import com.calculators.io.RecordWriter;
+import com.calculators.service.AmortizationSchedule;
+import com.calculators.service.CalculationService;
+import com.calculators.service.Money;
+import com.calculators.service.MortgageGrid;
+import com.calculators.service.MortgageGridInputs;
+import com.calculators.service.MortgageInputs;
+import com.calculators.service.MortgageSummary;
+import com.calculators.service.PaymentGrid;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.ModelAttribute;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+@RestController
+@RequestMapping("/calculators/mortgage")
+public class MortgageApiController {
+
+    private static final String[] SCHEDULE_COLUMNS = {
+            "month", "payment", "principal", "interest", "extra",
+            "tax", "insurance", "pmi", "total", "balance"
+    };
+
+    private final CalculationService calculationService;
+
+    public MortgageApiController(CalculationService calculationService) {
+        this.calculationService = calculationService;
+    }
+
+    /**
+     * Totals over the life of the loan, served from the result cache
+     */
+    @GetMapping("/summary")
+    public MortgageSummary summary(@ModelAttribute MortgageInputs inputs) {
+        try {
+            return calculationService.mortgage(inputs);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+    }
+
+    /**
+     * Payment and total interest across a grid of rates, terms and down payments, for heatmaps.
+     * Cells come back in columns; see {@link MortgageGrid} for the layout.
+     */
+    @GetMapping("/grid")
+    public MortgageGrid grid(@ModelAttribute MortgageGridInputs inputs) {
+        try {
+            return PaymentGrid.compute(inputs);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+    }
+
+    /**
+     * Stream the full amortization schedule as JSON, NDJSON or CSV while it is computed
+     */
+    @GetMapping("/schedule")
+    public ResponseEntity<StreamingResponseBody> schedule(@ModelAttribute MortgageInputs inputs,
+                                                          @RequestParam(required = false) String format) {
+        DataFormat dataFormat;
+        AmortizationSchedule schedule;
+        try {
+            dataFormat = DataFormat.from(format);
+            schedule = new AmortizationSchedule(inputs);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+
+        StreamingResponseBody body = out -> writeSchedule(schedule, out, dataFormat);
+        return ResponseEntity.ok()
+                .header("Content-Type", dataFormat.getContentType())
+                .header("X-Monthly-Payment", Money.format(schedule.getInitialMonthlyPayment()))
+                .body(body);
+    }
+
+    private void writeSchedule(AmortizationSchedule schedule, OutputStream out, DataFormat format) throws IOException {
+        RecordWriter writer = new RecordWriter(out, format, SCHEDULE_COLUMNS);
+        int[] month = schedule.getMonth();
+        long[] payment = schedule.getPayment();
+        long[] principal = schedule.getPrincipal();
+        long[] interest = schedule.getInterest();
+        long[] extra = schedule.getExtra();
+        long[] tax = schedule.getTax();
+        long[] insurance = schedule.getInsurance();
+        long[] pmi = schedule.getPmi();
+        long[] total = schedule.getTotal();
+        long[] balance = schedule.getBalance();
+
+        for (int count = schedule.next(); count > 0; count = schedule.next()) {
+            for (int i = 0; i < count; i++) {
+                writer.beginRecord();
+                writer.field(month[i]);
+                writer.fieldScaled(payment[i], 2);
+                writer.fieldScaled(principal[i], 2);
+                writer.fieldScaled(interest[i], 2);
+                writer.fieldScaled(extra[i], 2);
+                writer.fieldScaled(tax[i], 2);
+                writer.fieldScaled(insurance[i], 2);
+                writer.fieldScaled(pmi[i], 2);
+                writer.fieldScaled(total[i], 2);
+                writer.fieldScaled(balance[i], 2);
+                writer.endRecord();
+            }
+            // Push each chunk out so clients can start consuming early rows
+            writer.flush();
+        }
+        writer.finish();
+    }
+}
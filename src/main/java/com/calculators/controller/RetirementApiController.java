@@ -0,0 +1,79 @@
+package com.calculators.controller;
+
+import com.calculators.service.RetirementInputs;
+import com.calculators.service.RetirementSimulationService;
+import com.calculators.service.SimulationSnapshot;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.ModelAttribute;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.concurrent.RejectedExecutionException;
+
+@RestController
+@RequestMapping("/calculators/retirement")
+public class RetirementApiController {
+
+    private static final long STREAM_TIMEOUT_MILLIS = 60_000;
+
+    private final RetirementSimulationService simulationService;
+
+    public RetirementApiController(RetirementSimulationService simulationService) {
+        this.simulationService = simulationService;
+    }
+
+    /**
+     * Run a Monte Carlo simulation and return the final percentile bands
+     */
+    @GetMapping("/simulation")
+    public SimulationSnapshot simulation(@ModelAttribute RetirementInputs inputs) {
+        try {
+            return simulationService.simulate(inputs);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        } catch (RejectedExecutionException e) {
+            throw new ResponseStatusException(HttpStatus.TOO_MANY_REQUESTS, e.getMessage());
+        }
+    }
+
+    /**
+     * Stream the percentile bands as Server-Sent Events while the simulation runs.
+     * Each batch sends a {@code progress} event; the last one is sent as {@code complete}.
+     */
+    @GetMapping(path = "/simulation/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter simulationStream(@ModelAttribute RetirementInputs inputs) {
+        SseEmitter emitter = new SseEmitter(STREAM_TIMEOUT_MILLIS);
+        try {
+            simulationService.simulate(inputs, snapshot -> send(emitter, snapshot))
+                    .whenComplete((result, error) -> {
+                        if (error == null) {
+                            emitter.complete();
+                        } else {
+                            emitter.completeWithError(error);
+                        }
+                    });
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        } catch (RejectedExecutionException e) {
+            throw new ResponseStatusException(HttpStatus.TOO_MANY_REQUESTS, e.getMessage());
+        }
+        return emitter;
+    }
+
+    private void send(SseEmitter emitter, SimulationSnapshot snapshot) {
+        try {
+            emitter.send(SseEmitter.event()
+                    .name(snapshot.isComplete() ? "complete" : "progress")
+                    .data(snapshot, MediaType.APPLICATION_JSON));
+        } catch (IOException e) {
+            // Client went away, stop simulating
+            throw new UncheckedIOException(e);
+        }
+    }
+}
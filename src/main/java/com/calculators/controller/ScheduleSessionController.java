@@ -0,0 +1,154 @@
+package com.calculators.controller;
+
+import com.calculators.service.AmortizationTerms;
+import com.calculators.service.LoanScheduleInputs;
+import com.calculators.service.MortgageInputs;
+import com.calculators.service.ScheduleSession;
+import com.calculators.service.ScheduleSessionService;
+import com.calculators.service.ScheduleUpdate;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.ModelAttribute;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.function.Supplier;
+
+/**
+ * Live amortization schedules for the mortgage and loan pages.
+ *
+ * A page opens a session with its current inputs and receives the full schedule, then
+ * listens on the session's event stream. Every edit posts the complete inputs again; the
+ * server recomputes from the first month the edit affects and sends an {@code update}
+ * event with only the rows that changed and the new totals. On (re)connecting the stream
+ * starts with a {@code schedule} event holding every row.
+ */
+@RestController
+@RequestMapping("/calculators")
+public class ScheduleSessionController {
+
+    private static final String MORTGAGE = "mortgage";
+    private static final String LOAN = "loan";
+
+    private final ScheduleSessionService sessionService;
+
+    public ScheduleSessionController(ScheduleSessionService sessionService) {
+        this.sessionService = sessionService;
+    }
+
+    @PostMapping("/mortgage/sessions")
+    public ResponseEntity<ScheduleUpdate> openMortgage(@ModelAttribute MortgageInputs inputs) {
+        return open(MORTGAGE, () -> AmortizationTerms.of(inputs));
+    }
+
+    @PostMapping("/mortgage/sessions/{id}")
+    public ResponseEntity<Void> editMortgage(@PathVariable String id, @ModelAttribute MortgageInputs inputs) {
+        return edit(MORTGAGE, id, () -> AmortizationTerms.of(inputs));
+    }
+
+    @GetMapping(path = "/mortgage/sessions/{id}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter mortgageEvents(@PathVariable String id) {
+        return events(MORTGAGE, id);
+    }
+
+    @DeleteMapping("/mortgage/sessions/{id}")
+    public ResponseEntity<Void> closeMortgage(@PathVariable String id) {
+        return close(MORTGAGE, id);
+    }
+
+    @PostMapping("/loan/sessions")
+    public ResponseEntity<ScheduleUpdate> openLoan(@ModelAttribute LoanScheduleInputs inputs) {
+        return open(LOAN, () -> AmortizationTerms.of(inputs));
+    }
+
+    @PostMapping("/loan/sessions/{id}")
+    public ResponseEntity<Void> editLoan(@PathVariable String id, @ModelAttribute LoanScheduleInputs inputs) {
+        return edit(LOAN, id, () -> AmortizationTerms.of(inputs));
+    }
+
+    @GetMapping(path = "/loan/sessions/{id}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter loanEvents(@PathVariable String id) {
+        return events(LOAN, id);
+    }
+
+    @DeleteMapping("/loan/sessions/{id}")
+    public ResponseEntity<Void> closeLoan(@PathVariable String id) {
+        return close(LOAN, id);
+    }
+
+    /**
+     * Start a session and return its whole schedule
+     */
+    private ResponseEntity<ScheduleUpdate> open(String calculator, Supplier<AmortizationTerms> terms) {
+        ScheduleSession session = sessionService.open(calculator, terms(terms));
+        return ResponseEntity.created(URI.create("/calculators/" + calculator + "/sessions/" + session.getId()))
+                .body(session.snapshot());
+    }
+
+    /**
+     * Apply new inputs; the changed rows go out on the session's event stream
+     */
+    private ResponseEntity<Void> edit(String calculator, String id, Supplier<AmortizationTerms> terms) {
+        ScheduleSession session = session(calculator, id);
+        session.update(terms(terms));
+        return ResponseEntity.accepted().build();
+    }
+
+    private SseEmitter events(String calculator, String id) {
+        ScheduleSession session = session(calculator, id);
+        SseEmitter emitter = new SseEmitter(sessionService.getIdleTimeout().toMillis());
+        ScheduleSession.Listener listener = new ScheduleSession.Listener() {
+            @Override
+            public void send(ScheduleUpdate update) throws IOException {
+                emitter.send(SseEmitter.event()
+                        .name(update.isSnapshot() ? "schedule" : "update")
+                        .id(Long.toString(update.getRevision()))
+                        .data(update, MediaType.APPLICATION_JSON));
+            }
+
+            @Override
+            public void close() {
+                emitter.complete();
+            }
+        };
+        emitter.onCompletion(() -> session.detach(listener));
+        emitter.onTimeout(() -> session.detach(listener));
+        try {
+            session.attach(listener);
+        } catch (IOException e) {
+            session.detach(listener);
+            emitter.completeWithError(e);
+        }
+        return emitter;
+    }
+
+    private ResponseEntity<Void> close(String calculator, String id) {
+        sessionService.close(session(calculator, id));
+        return ResponseEntity.noContent().build();
+    }
+
+    private ScheduleSession session(String calculator, String id) {
+        ScheduleSession session = sessionService.find(calculator, id);
+        if (session == null) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Unknown or expired session");
+        }
+        return session;
+    }
+
+    private static AmortizationTerms terms(Supplier<AmortizationTerms> terms) {
+        try {
+            return terms.get();
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.calculators.controller;
+
+import com.calculators.config.CalculatorRegistry;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * sitemap.xml and robots.txt, generated once from the registry's page routes
+ */
+@RestController
+public class SiteIndexController {
+
+    private final CalculatorRegistry calculatorRegistry;
+    private final String appUrl;
+
+    private String sitemap;
+    private String robots;
+
+    public SiteIndexController(CalculatorRegistry calculatorRegistry, @Value("${app.url}") String appUrl) {
+        this.calculatorRegistry = calculatorRegistry;
+        this.appUrl = appUrl.endsWith("/") ? appUrl.substring(0, appUrl.length() - 1) : appUrl;
+    }
+
+    @PostConstruct
+    void build() {
+        StringBuilder xml = new StringBuilder()
+                .append("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n")
+                .append("<urlset xmlns=\"http://www.sitemaps.org/schemas/sitemap/0.9\">\n");
+        for (String route : calculatorRegistry.getPageRoutes()) {
+            xml.append("  <url><loc>").append(appUrl).append(route).append("</loc></url>\n");
+        }
+        sitemap = xml.append("</urlset>\n").toString();
+
+        robots = "User-agent: *\n"
+                + "Allow: /\n"
+                + "Disallow: /actuator/\n"
+                + "Sitemap: " + appUrl + "/sitemap.xml\n";
+    }
+
+    @GetMapping(path = "/sitemap.xml", produces = MediaType.APPLICATION_XML_VALUE)
+    public String sitemap() {
+        return sitemap;
+    }
+
+    @GetMapping(path = "/robots.txt", produces = MediaType.TEXT_PLAIN_VALUE)
+    public String robots() {
+        return robots;
+    }
+}
@@ -0,0 +1,163 @@
+package com.calculators.controller;
+
+import com.calculators.io.DataFormat;
+import com.calculators.io.RecordWriter;
+import com.calculators.io.RowReader;
+import com.calculators.service.FilingStatus;
+import com.calculators.service.TaxEngine;
+import com.calculators.service.TaxInputs;
+import com.calculators.service.TaxResult;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.IOException;
+
+@RestController
+@RequestMapping("/calculators/tax")
+public class TaxApiController {
+
+    private static final String[] INPUT_COLUMNS = {
+            "id", "filingStatus", "wages", "otherIncome", "preTaxDeductions",
+            "itemizedDeductions", "credits", "stateRate"
+    };
+    private static final int ID = 0;
+    private static final int FILING_STATUS = 1;
+    private static final int WAGES = 2;
+    private static final int OTHER_INCOME = 3;
+    private static final int PRE_TAX_DEDUCTIONS = 4;
+    private static final int ITEMIZED_DEDUCTIONS = 5;
+    private static final int CREDITS = 6;
+    private static final int STATE_RATE = 7;
+
+    private static final String[] OUTPUT_COLUMNS = {
+            "row", "id", "filingStatus", "taxableIncome", "federalTax", "marginalRate",
+            "socialSecurity", "medicare", "stateTax", "totalTax", "effectiveRate", "netIncome", "error"
+    };
+
+    /**
+     * Estimate taxes for every row of a CSV or NDJSON upload.
+     *
+     * Rows are read, computed and written one at a time so neither the upload nor the
+     * result is ever held in memory. Invalid rows are reported in the error column
+     * instead of failing the whole file; an upload without a wages column is rejected.
+     * An upload that turns malformed after some rows ends with a row reporting the problem.
+     */
+    @PostMapping("/bulk")
+    public void bulk(HttpServletRequest request, HttpServletResponse response,
+                     @RequestParam(required = false) String format) throws IOException {
+        DataFormat inputFormat = DataFormat.fromContentType(request.getContentType());
+        DataFormat outputFormat;
+        try {
+            outputFormat = format == null ? inputFormat : DataFormat.from(format);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+
+        try (RowReader reader = RowReader.open(inputFormat, request.getInputStream(), INPUT_COLUMNS)) {
+            reader.require(WAGES);
+            response.setContentType(outputFormat.getContentType());
+            RecordWriter writer = new RecordWriter(response.getOutputStream(), outputFormat, OUTPUT_COLUMNS);
+            TaxInputs inputs = new TaxInputs();
+            TaxResult result = new TaxResult();
+            while (nextRow(reader, writer)) {
+                writer.beginRecord();
+                writer.field(reader.getRowNumber());
+                reader.copyText(ID, writer);
+                String error = read(reader, inputs);
+                if (error == null) {
+                    TaxEngine.compute(inputs, result);
+                    writeResult(writer, inputs, result);
+                } else {
+                    writer.nullField();
+                    for (int i = 3; i < OUTPUT_COLUMNS.length - 1; i++) {
+                        writer.nullField();
+                    }
+                    writer.field(error);
+                }
+                writer.endRecord();
+            }
+            writer.finish();
+        } catch (IllegalArgumentException e) {
+            if (response.isCommitted()) {
+                throw e;
+            }
+            // Drop the CSV/NDJSON content type so the error body can be rendered
+            response.reset();
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+    }
+
+    /**
+     * Advance to the next row. Once rows have been written, a malformed or truncated upload
+     * is reported as a final row rather than a failure part way through the response.
+     */
+    private static boolean nextRow(RowReader reader, RecordWriter writer) throws IOException {
+        try {
+            return reader.next();
+        } catch (IllegalArgumentException e) {
+            if (reader.getRowNumber() == 0) {
+                throw e;
+            }
+            writer.beginRecord();
+            writer.field(reader.getRowNumber() + 1);
+            for (int i = 1; i < OUTPUT_COLUMNS.length - 1; i++) {
+                writer.nullField();
+            }
+            writer.field(e.getMessage());
+            writer.endRecord();
+            return false;
+        }
+    }
+
+    /**
+     * Bind one row into the reusable inputs
+     *
+     * @return a description of what is wrong with the row, or null if it is valid
+     */
+    private String read(RowReader reader, TaxInputs inputs) {
+        try {
+            if (reader.has(FILING_STATUS)) {
+                int code = reader.choice(FILING_STATUS, FilingStatus.CODES);
+                if (code < 0) {
+                    return "Unknown filingStatus";
+                }
+                inputs.setFilingStatus(FilingStatus.fromCode(code));
+            } else {
+                inputs.setFilingStatus(FilingStatus.SINGLE);
+            }
+            if (!reader.has(WAGES)) {
+                return "wages is required";
+            }
+            inputs.setWages(reader.getDouble(WAGES, 0));
+            inputs.setOtherIncome(reader.getDouble(OTHER_INCOME, 0));
+            inputs.setPreTaxDeductions(reader.getDouble(PRE_TAX_DEDUCTIONS, 0));
+            inputs.setItemizedDeductions(reader.getDouble(ITEMIZED_DEDUCTIONS, 0));
+            inputs.setCredits(reader.getDouble(CREDITS, 0));
+            inputs.setStateRate(reader.getDouble(STATE_RATE, 0));
+            inputs.validate();
+            return null;
+        } catch (IllegalArgumentException e) {
+            return e.getMessage();
+        }
+    }
+
+    private void writeResult(RecordWriter writer, TaxInputs inputs, TaxResult result) throws IOException {
+        writer.field(FilingStatus.CODES[inputs.getFilingStatus().ordinal()]);
+        writer.field(result.getTaxableIncome(), 2);
+        writer.field(result.getFederalTax(), 2);
+        writer.field(result.getMarginalRate(), 0);
+        writer.field(result.getSocialSecurity(), 2);
+        writer.field(result.getMedicare(), 2);
+        writer.field(result.getStateTax(), 2);
+        writer.field(result.getTotalTax(), 2);
+        writer.field(result.getEffectiveRate(), 2);
+        writer.field(result.getNetIncome(), 2);
+        writer.nullField();
+    }
+}
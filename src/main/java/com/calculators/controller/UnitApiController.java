@@ -0,0 +1,61 @@
+package com.calculators.controller;
+
+import com.calculators.service.Unit;
+import com.calculators.service.UnitColumn;
+import com.calculators.service.UnitConverter;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/calculators/unit-converter")
+public class UnitApiController {
+
+    private final UnitConverter unitConverter;
+
+    public UnitApiController(UnitConverter unitConverter) {
+        this.unitConverter = unitConverter;
+    }
+
+    @GetMapping("/units")
+    public List<Unit> units() {
+        return unitConverter.getUnits();
+    }
+
+    /**
+     * Convert columns of measurements. Each column's values are converted in place and
+     * returned with {@code from} set to the target unit.
+     */
+    @PostMapping("/convert")
+    public List<UnitColumn> convert(@RequestBody List<UnitColumn> columns) {
+        try {
+            // Resolve every column first so a bad one rejects the request before any work
+            int[] pairs = new int[columns.size()];
+            for (int i = 0; i < pairs.length; i++) {
+                UnitColumn column = columns.get(i);
+                if (column == null) {
+                    throw new IllegalArgumentException("Column " + i + " is null");
+                }
+                if (column.getValues() == null) {
+                    throw new IllegalArgumentException("Column " + i + " has no values");
+                }
+                pairs[i] = unitConverter.pair(unitConverter.find(column.getFrom()), unitConverter.find(column.getTo()));
+            }
+            for (int i = 0; i < pairs.length; i++) {
+                UnitColumn column = columns.get(i);
+                double[] values = column.getValues();
+                unitConverter.convert(pairs[i], values, values, values.length);
+                column.setFrom(column.getTo());
+            }
+            return columns;
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+    }
+}
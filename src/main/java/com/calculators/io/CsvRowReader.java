@@ -0,0 +1,287 @@
+package com.calculators.io;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+
+/**
+ * RFC 4180 style CSV reader that works directly on the raw byte buffer.
+ *
+ * The first row is the header and is matched case-insensitively against the requested
+ * columns, after dropping a UTF-8 byte order mark, so column order and extra columns in
+ * the upload do not matter. Each row is
+ * scanned once and only field boundaries are recorded; values are decoded on demand.
+ */
+class CsvRowReader extends RowReader {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final int INCOMPLETE = -1;
+    private static final int END_OF_INPUT = -2;
+
+    private final InputStream in;
+    private final int[] columnIndex;
+    private byte[] buffer = new byte[BUFFER_SIZE];
+    private int position;
+    private int limit;
+    private boolean eof;
+
+    private int fieldCount;
+    private int[] fieldStart = new int[16];
+    private int[] fieldEnd = new int[16];
+    private boolean[] fieldEscaped = new boolean[16];
+    private byte[] scratch = new byte[256];
+
+    CsvRowReader(InputStream in, String[] columns) throws IOException {
+        super(columns);
+        this.in = in;
+        this.columnIndex = new int[columns.length];
+        Arrays.fill(columnIndex, -1);
+        skipByteOrderMark();
+        if (advance()) {
+            for (int field = 0; field < fieldCount; field++) {
+                int start = fieldStart[field];
+                int end = fieldEnd[field];
+                while (start < end && buffer[start] == ' ') {
+                    start++;
+                }
+                while (end > start && buffer[end - 1] == ' ') {
+                    end--;
+                }
+                for (int c = 0; c < columns.length; c++) {
+                    if (columnIndex[c] < 0 && equalsIgnoreCase(buffer, start, end, columns[c])) {
+                        columnIndex[c] = field;
+                    }
+                }
+            }
+        }
+    }
+
+    @Override
+    protected boolean advance() throws IOException {
+        while (true) {
+            int end = scan();
+            if (end == END_OF_INPUT) {
+                return false;
+            }
+            if (end == INCOMPLETE) {
+                fill();
+                continue;
+            }
+            position = end;
+            // Skip blank lines
+            if (fieldCount > 1 || fieldEnd[0] > fieldStart[0]) {
+                return true;
+            }
+        }
+    }
+
+    @Override
+    protected boolean declares(int column) {
+        return columnIndex[column] >= 0;
+    }
+
+    @Override
+    public boolean has(int column) {
+        int field = columnIndex[column];
+        return field >= 0 && field < fieldCount && fieldEnd[field] > fieldStart[field];
+    }
+
+    @Override
+    public double getDouble(int column, double defaultValue) {
+        if (!has(column)) {
+            return defaultValue;
+        }
+        int field = columnIndex[column];
+        return NumberParser.parseDouble(buffer, fieldStart[field], fieldEnd[field]);
+    }
+
+    @Override
+    public int choice(int column, String[] options) {
+        if (!has(column)) {
+            return -1;
+        }
+        int field = columnIndex[column];
+        int start = fieldStart[field];
+        int end = fieldEnd[field];
+        while (start < end && buffer[start] == ' ') {
+            start++;
+        }
+        while (end > start && buffer[end - 1] == ' ') {
+            end--;
+        }
+        for (int i = 0; i < options.length; i++) {
+            if (equalsIgnoreCase(buffer, start, end, options[i])) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public void copyText(int column, RecordWriter writer) throws IOException {
+        if (!has(column)) {
+            writer.nullField();
+            return;
+        }
+        int field = columnIndex[column];
+        if (!fieldEscaped[field]) {
+            writer.field(buffer, fieldStart[field], fieldEnd[field] - fieldStart[field]);
+            return;
+        }
+        writer.field(scratch, 0, unescape(field));
+    }
+
+    @Override
+    public void copyText(int column, TextColumn target) {
+        if (!has(column)) {
+            target.addNull();
+            return;
+        }
+        int field = columnIndex[column];
+        if (!fieldEscaped[field]) {
+            target.add(buffer, fieldStart[field], fieldEnd[field] - fieldStart[field]);
+            return;
+        }
+        target.add(scratch, 0, unescape(field));
+    }
+
+    /**
+     * Collapse the doubled quotes of a quoted field into the scratch buffer
+     *
+     * @return the unescaped length
+     */
+    private int unescape(int field) {
+        int start = fieldStart[field];
+        int end = fieldEnd[field];
+        if (scratch.length < end - start) {
+            scratch = new byte[end - start];
+        }
+        int length = 0;
+        for (int i = start; i < end; i++) {
+            scratch[length++] = buffer[i];
+            if (buffer[i] == '"') {
+                i++;
+            }
+        }
+        return length;
+    }
+
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+
+    /**
+     * Spreadsheet exports often start with a BOM, which would otherwise become part of the
+     * first header name and hide that column
+     */
+    private void skipByteOrderMark() throws IOException {
+        while (limit < 3 && !eof) {
+            fill();
+        }
+        if (limit >= 3 && (buffer[0] & 0xFF) == 0xEF && (buffer[1] & 0xFF) == 0xBB && (buffer[2] & 0xFF) == 0xBF) {
+            position = 3;
+        }
+    }
+
+    /**
+     * Record the field boundaries of the row starting at the current position
+     *
+     * @return offset just past the row, INCOMPLETE if more input is needed or END_OF_INPUT
+     */
+    private int scan() {
+        int p = position;
+        if (p >= limit) {
+            return eof ? END_OF_INPUT : INCOMPLETE;
+        }
+        fieldCount = 0;
+        while (true) {
+            int start;
+            int end;
+            boolean escaped = false;
+            if (p < limit && buffer[p] == '"') {
+                start = p + 1;
+                int q = start;
+                while (true) {
+                    if (q >= limit) {
+                        if (!eof) {
+                            return INCOMPLETE;
+                        }
+                        break;
+                    }
+                    if (buffer[q] == '"') {
+                        if (q + 1 >= limit && !eof) {
+                            return INCOMPLETE;
+                        }
+                        if (q + 1 < limit && buffer[q + 1] == '"') {
+                            escaped = true;
+                            q += 2;
+                            continue;
+                        }
+                        break;
+                    }
+                    q++;
+                }
+                end = Math.min(q, limit);
+                p = q + 1;
+                // Ignore anything between the closing quote and the delimiter
+                while (p < limit && buffer[p] != ',' && buffer[p] != '\n') {
+                    p++;
+                }
+            } else {
+                start = p;
+                while (p < limit && buffer[p] != ',' && buffer[p] != '\n') {
+                    p++;
+                }
+                end = p;
+                if (end > start && buffer[end - 1] == '\r') {
+                    end--;
+                }
+            }
+            if (p >= limit && !eof) {
+                return INCOMPLETE;
+            }
+            addField(start, end, escaped);
+            if (p >= limit) {
+                return limit;
+            }
+            if (buffer[p] == '\n') {
+                return p + 1;
+            }
+            p++;
+        }
+    }
+
+    private void addField(int start, int end, boolean escaped) {
+        if (fieldCount == fieldStart.length) {
+            fieldStart = Arrays.copyOf(fieldStart, fieldCount * 2);
+            fieldEnd = Arrays.copyOf(fieldEnd, fieldCount * 2);
+            fieldEscaped = Arrays.copyOf(fieldEscaped, fieldCount * 2);
+        }
+        fieldStart[fieldCount] = start;
+        fieldEnd[fieldCount] = end;
+        fieldEscaped[fieldCount] = escaped;
+        fieldCount++;
+    }
+
+    /**
+     * Move the unread tail to the front of the buffer and read more input after it,
+     * growing the buffer when a single row does not fit
+     */
+    private void fill() throws IOException {
+        if (position > 0) {
+            System.arraycopy(buffer, position, buffer, 0, limit - position);
+            limit -= position;
+            position = 0;
+        }
+        if (limit == buffer.length) {
+            buffer = Arrays.copyOf(buffer, buffer.length * 2);
+        }
+        int read = in.read(buffer, limit, buffer.length - limit);
+        if (read < 0) {
+            eof = true;
+        } else {
+            limit += read;
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.calculators.io;
+
+import org.springframework.http.MediaType;
+
+import java.util.Locale;
+
+/**
+ * Wire formats supported by the streaming API endpoints
+ */
+public enum DataFormat {
+    JSON(MediaType.APPLICATION_JSON_VALUE),
+    NDJSON(MediaType.APPLICATION_NDJSON_VALUE),
+    CSV("text/csv");
+
+    private final String contentType;
+
+    DataFormat(String contentType) {
+        this.contentType = contentType;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    /**
+     * Resolve a format from a request parameter, defaulting to JSON
+     */
+    public static DataFormat from(String value) {
+        if (value == null || value.isBlank()) {
+            return JSON;
+        }
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unsupported format: " + value);
+        }
+    }
+
+    /**
+     * Resolve the format of an uploaded body from its Content-Type, defaulting to NDJSON
+     */
+    public static DataFormat fromContentType(String contentType) {
+        if (contentType == null) {
+            return NDJSON;
+        }
+        String type = contentType.toLowerCase(Locale.ROOT);
+        if (type.startsWith("text/csv") || type.startsWith("application/csv")) {
+            return CSV;
+        }
+        if (type.startsWith(MediaType.APPLICATION_JSON_VALUE)) {
+            return JSON;
+        }
+        return NDJSON;
+    }
+}
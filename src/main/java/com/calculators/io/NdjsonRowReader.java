@@ -0,0 +1,221 @@
+package com.calculators.io;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+
+/**
+ * Reads one JSON object per row with Jackson's streaming parser, either as NDJSON or
+ * as the elements of a top-level array.
+ *
+ * Field names are canonicalised by the parser's symbol table and values are copied
+ * into per-column slots, so no tree or String is built for a row. Unknown fields and
+ * nested values are skipped. Integers too large for a long are read as doubles.
+ * Malformed or truncated JSON is reported as an {@link IllegalArgumentException}.
+ */
+class NdjsonRowReader extends RowReader {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private static final byte ABSENT = 0;
+    private static final byte NUMBER = 1;
+    private static final byte TEXT = 2;
+
+    private final JsonParser parser;
+    private final byte[] kind;
+    private final boolean[] declared;
+    private final double[] numbers;
+    private final char[][] text;
+    private final int[] textLength;
+    private byte[] digits = new byte[64];
+
+    NdjsonRowReader(InputStream in, String[] columns) throws IOException {
+        super(columns);
+        this.parser = JSON_FACTORY.createParser(in);
+        this.kind = new byte[columns.length];
+        this.declared = new boolean[columns.length];
+        this.numbers = new double[columns.length];
+        this.text = new char[columns.length][32];
+        this.textLength = new int[columns.length];
+    }
+
+    @Override
+    protected boolean advance() throws IOException {
+        try {
+            return readRecord();
+        } catch (JsonProcessingException e) {
+            String where = e.getLocation() == null ? "" : " at line " + e.getLocation().getLineNr();
+            throw new IllegalArgumentException("Malformed JSON" + where + ": " + e.getOriginalMessage(), e);
+        }
+    }
+
+    private boolean readRecord() throws IOException {
+        JsonToken token = parser.nextToken();
+        if (token == JsonToken.START_ARRAY && parser.getParsingContext().getParent().inRoot()) {
+            // A plain JSON array of objects reads the same as NDJSON
+            token = parser.nextToken();
+        }
+        if (token == null || token == JsonToken.END_ARRAY) {
+            return false;
+        }
+        if (token != JsonToken.START_OBJECT) {
+            throw new IllegalArgumentException("Expected a JSON object per line but found " + parser.getText());
+        }
+        Arrays.fill(kind, ABSENT);
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            int column = indexOf(parser.currentName());
+            JsonToken value = parser.nextToken();
+            if (column < 0) {
+                parser.skipChildren();
+                continue;
+            }
+            declared[column] = true;
+            switch (value) {
+                case VALUE_NUMBER_INT -> {
+                    kind[column] = NUMBER;
+                    numbers[column] = parser.getNumberType() == JsonParser.NumberType.BIG_INTEGER
+                            ? parser.getDoubleValue()
+                            : parser.getLongValue();
+                }
+                case VALUE_NUMBER_FLOAT -> {
+                    kind[column] = NUMBER;
+                    numbers[column] = parseDouble(parser.getTextCharacters(), parser.getTextOffset(), parser.getTextLength());
+                }
+                case VALUE_TRUE, VALUE_FALSE -> {
+                    kind[column] = NUMBER;
+                    numbers[column] = value == JsonToken.VALUE_TRUE ? 1 : 0;
+                }
+                case VALUE_STRING -> {
+                    int length = parser.getTextLength();
+                    if (length > 0) {
+                        if (text[column].length < length) {
+                            text[column] = new char[Math.max(length, text[column].length * 2)];
+                        }
+                        System.arraycopy(parser.getTextCharacters(), parser.getTextOffset(), text[column], 0, length);
+                        kind[column] = TEXT;
+                        textLength[column] = length;
+                    }
+                }
+                default -> parser.skipChildren();
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Only consulted on the first record, when {@code declared} holds just its field names
+     */
+    @Override
+    protected boolean declares(int column) {
+        return declared[column];
+    }
+
+    @Override
+    public boolean has(int column) {
+        return kind[column] != ABSENT;
+    }
+
+    @Override
+    public double getDouble(int column, double defaultValue) {
+        return switch (kind[column]) {
+            case NUMBER -> numbers[column];
+            case TEXT -> parseDouble(text[column], 0, textLength[column]);
+            default -> defaultValue;
+        };
+    }
+
+    @Override
+    public int choice(int column, String[] options) {
+        if (kind[column] != TEXT) {
+            return -1;
+        }
+        char[] chars = text[column];
+        int start = 0;
+        int end = textLength[column];
+        while (start < end && chars[start] == ' ') {
+            start++;
+        }
+        while (end > start && chars[end - 1] == ' ') {
+            end--;
+        }
+        for (int i = 0; i < options.length; i++) {
+            if (matches(chars, start, end, options[i])) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public void copyText(int column, RecordWriter writer) throws IOException {
+        switch (kind[column]) {
+            case TEXT -> writer.field(text[column], 0, textLength[column]);
+            case NUMBER -> {
+                double value = numbers[column];
+                if (value == Math.rint(value) && Math.abs(value) < 1e15) {
+                    writer.field((long) value);
+                } else {
+                    writer.field(value, 8);
+                }
+            }
+            default -> writer.nullField();
+        }
+    }
+
+    @Override
+    public void copyText(int column, TextColumn target) {
+        switch (kind[column]) {
+            case TEXT -> target.add(text[column], 0, textLength[column]);
+            case NUMBER -> target.add(numbers[column]);
+            default -> target.addNull();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        parser.close();
+    }
+
+    private static boolean matches(char[] chars, int start, int end, String option) {
+        if (end - start != option.length()) {
+            return false;
+        }
+        for (int i = 0; i < option.length(); i++) {
+            char a = chars[start + i];
+            char b = option.charAt(i);
+            if (a != b && Character.toLowerCase(a) != Character.toLowerCase(b)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private int indexOf(String name) {
+        for (int i = 0; i < columns.length; i++) {
+            // Interned by the parser, so the identity check hits for exact matches
+            if (columns[i] == name || columns[i].equalsIgnoreCase(name)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Numbers are ASCII, so narrow the characters into a byte buffer and reuse the CSV parser
+     */
+    private double parseDouble(char[] chars, int offset, int length) {
+        if (digits.length < length) {
+            digits = new byte[length];
+        }
+        for (int i = 0; i < length; i++) {
+            char c = chars[offset + i];
+            digits[i] = c < 0x80 ? (byte) c : (byte) '?';
+        }
+        return NumberParser.parseDouble(digits, 0, length);
+    }
+}
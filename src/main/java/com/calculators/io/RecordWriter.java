@@ -0,0 +1,384 @@
+package com.calculators.io;
+
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Writes fixed-column records as JSON, NDJSON or CSV straight into a byte buffer.
+ * Column names are encoded once up front and numbers are formatted without
+ * going through String, so writing a row does not allocate.
+ */
+public class RecordWriter implements Flushable {
+
+    private static final int BUFFER_SIZE = 16 * 1024;
+    private static final long[] POWERS_OF_TEN = {
+            1L, 10L, 100L, 1_000L, 10_000L, 100_000L, 1_000_000L, 10_000_000L, 100_000_000L
+    };
+
+    private static final byte[] TRUE = {'t', 'r', 'u', 'e'};
+    private static final byte[] FALSE = {'f', 'a', 'l', 's', 'e'};
+    private static final byte[] NULL = {'n', 'u', 'l', 'l'};
+
+    private final OutputStream out;
+    private final DataFormat format;
+    private final byte[][] jsonKeys;
+    private final byte[] buffer = new byte[BUFFER_SIZE];
+    private int position;
+    private int column;
+    private long records;
+
+    public RecordWriter(OutputStream out, DataFormat format, String... columns) {
+        this.out = out;
+        this.format = format;
+        this.jsonKeys = new byte[columns.length][];
+        for (int i = 0; i < columns.length; i++) {
+            jsonKeys[i] = ("\"" + columns[i] + "\":").getBytes(StandardCharsets.UTF_8);
+        }
+
+        if (format == DataFormat.CSV) {
+            for (int i = 0; i < columns.length; i++) {
+                if (i > 0) {
+                    put((byte) ',');
+                }
+                put(columns[i].getBytes(StandardCharsets.UTF_8));
+            }
+            put((byte) '\n');
+        } else if (format == DataFormat.JSON) {
+            put((byte) '[');
+        }
+    }
+
+    public long getRecords() {
+        return records;
+    }
+
+    public void beginRecord() throws IOException {
+        ensure(64);
+        if (format != DataFormat.CSV) {
+            if (format == DataFormat.JSON && records > 0) {
+                put((byte) ',');
+            }
+            put((byte) '{');
+        }
+        column = 0;
+    }
+
+    public void endRecord() throws IOException {
+        ensure(2);
+        if (format != DataFormat.CSV) {
+            put((byte) '}');
+        }
+        if (format != DataFormat.JSON) {
+            put((byte) '\n');
+        }
+        records++;
+    }
+
+    /**
+     * Write a decimal value rounded half-up to the given number of fraction digits (0-8)
+     */
+    public void field(double value, int scale) throws IOException {
+        startField();
+        if (Double.isNaN(value) || Double.isInfinite(value)) {
+            writeNull();
+            return;
+        }
+        long factor = POWERS_OF_TEN[scale];
+        long scaled = Math.round(value * factor);
+        writeScaled(scaled, scale, factor);
+    }
+
+    /**
+     * Write a fixed-point value that is already scaled, e.g. cents with scale 2
+     */
+    public void fieldScaled(long scaled, int scale) throws IOException {
+        startField();
+        writeScaled(scaled, scale, POWERS_OF_TEN[scale]);
+    }
+
+    public void field(long value) throws IOException {
+        startField();
+        writeLong(value);
+    }
+
+    public void field(boolean value) throws IOException {
+        startField();
+        if (value) {
+            put(TRUE);
+        } else {
+            put(FALSE);
+        }
+    }
+
+    public void field(String value) throws IOException {
+        startField();
+        if (value == null) {
+            writeNull();
+            return;
+        }
+        if (format == DataFormat.CSV) {
+            writeCsvString(value);
+        } else {
+            writeJsonString(value);
+        }
+    }
+
+    /**
+     * Write text that is already UTF-8 encoded, such as a field copied from an upload
+     */
+    public void field(byte[] utf8, int offset, int length) throws IOException {
+        startField();
+        boolean csv = format == DataFormat.CSV;
+        boolean quote = !csv;
+        if (csv) {
+            for (int i = offset; i < offset + length && !quote; i++) {
+                byte b = utf8[i];
+                quote = b == ',' || b == '"' || b == '\n' || b == '\r';
+            }
+        }
+        if (quote) {
+            put((byte) '"');
+        }
+        for (int i = offset; i < offset + length; i++) {
+            ensure(8);
+            byte b = utf8[i];
+            if (b == '"') {
+                put(csv ? (byte) '"' : (byte) '\\');
+                put(b);
+            } else if (!csv && b == '\\') {
+                put((byte) '\\');
+                put(b);
+            } else if (!csv && b >= 0 && b < 0x20) {
+                writeControl((char) b);
+            } else {
+                put(b);
+            }
+        }
+        if (quote) {
+            ensure(1);
+            put((byte) '"');
+        }
+    }
+
+    /**
+     * Write text from a character buffer, such as a string token of a streaming JSON parser
+     */
+    public void field(char[] chars, int offset, int length) throws IOException {
+        startField();
+        boolean csv = format == DataFormat.CSV;
+        boolean quote = !csv;
+        if (csv) {
+            for (int i = offset; i < offset + length && !quote; i++) {
+                char c = chars[i];
+                quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+            }
+        }
+        if (quote) {
+            put((byte) '"');
+        }
+        for (int i = offset; i < offset + length; i++) {
+            ensure(8);
+            char c = chars[i];
+            if (c == '"') {
+                put(csv ? (byte) '"' : (byte) '\\');
+                put((byte) c);
+            } else if (!csv && c == '\\') {
+                put((byte) '\\');
+                put((byte) c);
+            } else if (!csv && c < 0x20) {
+                writeControl(c);
+            } else if (c < 0x80) {
+                put((byte) c);
+            } else {
+                i = putNonAscii(chars, i, offset + length);
+            }
+        }
+        if (quote) {
+            ensure(1);
+            put((byte) '"');
+        }
+    }
+
+    public void nullField() throws IOException {
+        startField();
+        writeNull();
+    }
+
+    /**
+     * Close the document and push everything buffered to the underlying stream
+     */
+    public void finish() throws IOException {
+        if (format == DataFormat.JSON) {
+            ensure(1);
+            put((byte) ']');
+        }
+        flush();
+    }
+
+    @Override
+    public void flush() throws IOException {
+        drain();
+        out.flush();
+    }
+
+    private void startField() throws IOException {
+        ensure(128);
+        if (format == DataFormat.CSV) {
+            if (column > 0) {
+                put((byte) ',');
+            }
+        } else {
+            if (column > 0) {
+                put((byte) ',');
+            }
+            put(jsonKeys[column]);
+        }
+        column++;
+    }
+
+    private void writeNull() {
+        if (format != DataFormat.CSV) {
+            put(NULL);
+        }
+    }
+
+    private void writeScaled(long scaled, int scale, long factor) {
+        if (scale == 0) {
+            writeLong(scaled);
+            return;
+        }
+        if (scaled < 0) {
+            put((byte) '-');
+            scaled = -scaled;
+        }
+        writeLong(scaled / factor);
+        put((byte) '.');
+        long fraction = scaled % factor;
+        for (long divisor = factor / 10; divisor > 0; divisor /= 10) {
+            put((byte) ('0' + (fraction / divisor) % 10));
+        }
+    }
+
+    private void writeLong(long value) {
+        if (value == Long.MIN_VALUE) {
+            put(Long.toString(value).getBytes(StandardCharsets.US_ASCII));
+            return;
+        }
+        if (value < 0) {
+            put((byte) '-');
+            value = -value;
+        }
+        int digits = 1;
+        for (long v = value / 10; v > 0; v /= 10) {
+            digits++;
+        }
+        int end = position + digits;
+        for (int i = end - 1; i >= position; i--) {
+            buffer[i] = (byte) ('0' + value % 10);
+            value /= 10;
+        }
+        position = end;
+    }
+
+    private void writeJsonString(String value) throws IOException {
+        put((byte) '"');
+        for (int i = 0; i < value.length(); i++) {
+            ensure(8);
+            char c = value.charAt(i);
+            if (c == '"' || c == '\\') {
+                put((byte) '\\');
+                put((byte) c);
+            } else if (c < 0x20) {
+                writeControl(c);
+            } else if (c < 0x80) {
+                put((byte) c);
+            } else {
+                i = putNonAscii(value, i);
+            }
+        }
+        ensure(1);
+        put((byte) '"');
+    }
+
+    private void writeCsvString(String value) throws IOException {
+        boolean quote = value.indexOf(',') >= 0 || value.indexOf('"') >= 0 || value.indexOf('\n') >= 0;
+        if (quote) {
+            put((byte) '"');
+        }
+        for (int i = 0; i < value.length(); i++) {
+            ensure(8);
+            char c = value.charAt(i);
+            if (c == '"') {
+                put((byte) '"');
+            }
+            if (c < 0x80) {
+                put((byte) c);
+            } else {
+                i = putNonAscii(value, i);
+            }
+        }
+        if (quote) {
+            ensure(1);
+            put((byte) '"');
+        }
+    }
+
+    private void writeControl(char c) {
+        put((byte) '\\');
+        put((byte) 'u');
+        put((byte) '0');
+        put((byte) '0');
+        put((byte) Character.forDigit(c >> 4, 16));
+        put((byte) Character.forDigit(c & 0xF, 16));
+    }
+
+    /**
+     * UTF-8 encode the code point at the given index and return the index of its last char
+     */
+    private int putNonAscii(String value, int index) {
+        return putCodePoint(value.codePointAt(index), index);
+    }
+
+    private int putNonAscii(char[] chars, int index, int limit) {
+        return putCodePoint(Character.codePointAt(chars, index, limit), index);
+    }
+
+    private int putCodePoint(int codePoint, int index) {
+        if (codePoint < 0x800) {
+            put((byte) (0xC0 | codePoint >> 6));
+        } else if (codePoint < 0x10000) {
+            put((byte) (0xE0 | codePoint >> 12));
+            put((byte) (0x80 | (codePoint >> 6 & 0x3F)));
+        } else {
+            put((byte) (0xF0 | codePoint >> 18));
+            put((byte) (0x80 | (codePoint >> 12 & 0x3F)));
+            put((byte) (0x80 | (codePoint >> 6 & 0x3F)));
+        }
+        put((byte) (0x80 | (codePoint & 0x3F)));
+        return index + Character.charCount(codePoint) - 1;
+    }
+
+    private void ensure(int bytes) throws IOException {
+        if (position + bytes > buffer.length) {
+            drain();
+        }
+    }
+
+    private void drain() throws IOException {
+        if (position > 0) {
+            out.write(buffer, 0, position);
+            position = 0;
+        }
+    }
+
+    private void put(byte b) {
+        buffer[position++] = b;
+    }
+
+    private void put(byte[] bytes) {
+        System.arraycopy(bytes, 0, buffer, position, bytes.length);
+        position += bytes.length;
+    }
+}
@@ -0,0 +1,119 @@
+package com.calculators.io;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Pull-based reader for uploaded CSV, NDJSON or JSON array rows.
+ *
+ * Callers name the columns they need up front and then address them by index, so the
+ * hot loop never looks fields up by name or materialises Strings. Values stay valid
+ * until the next call to {@link #next()}.
+ */
+public abstract class RowReader implements Closeable {
+
+    protected final String[] columns;
+    private int[] required = {};
+    private long rowNumber;
+
+    protected RowReader(String[] columns) {
+        this.columns = columns;
+    }
+
+    public static RowReader open(DataFormat format, InputStream in, String... columns) throws IOException {
+        return switch (format) {
+            case CSV -> new CsvRowReader(in, columns);
+            case JSON, NDJSON -> new NdjsonRowReader(in, columns);
+        };
+    }
+
+    /**
+     * Reject the upload unless the CSV header, or the first JSON record, names every one of
+     * these columns. A misnamed column would otherwise read as empty on every row.
+     */
+    public void require(int... columns) {
+        this.required = columns;
+    }
+
+    /**
+     * Advance to the next row
+     *
+     * @return false once the input is exhausted
+     * @throws IllegalArgumentException if the first row lacks a {@linkplain #require required} column,
+     *                                  or the input is malformed
+     */
+    public final boolean next() throws IOException {
+        if (advance()) {
+            if (rowNumber == 0) {
+                for (int column : required) {
+                    if (!declares(column)) {
+                        throw new IllegalArgumentException("Missing required column: " + columns[column]);
+                    }
+                }
+            }
+            rowNumber++;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * @return 1-based number of the current data row, which is also the number of rows read
+     */
+    public long getRowNumber() {
+        return rowNumber;
+    }
+
+    protected abstract boolean advance() throws IOException;
+
+    /**
+     * @return whether the header, or for JSON the first record, names the column
+     */
+    protected abstract boolean declares(int column);
+
+    /**
+     * @return whether the column has a non-empty value in the current row
+     */
+    public abstract boolean has(int column);
+
+    /**
+     * @throws NumberFormatException if the value is present but not numeric
+     */
+    public abstract double getDouble(int column, double defaultValue);
+
+    /**
+     * Match a text value against a fixed set of options, ignoring ASCII case
+     *
+     * @return index of the matching option, or -1 if the value is missing or unknown
+     */
+    public abstract int choice(int column, String[] options);
+
+    /**
+     * Copy the column's raw value into the output as text, or null if it is missing
+     */
+    public abstract void copyText(int column, RecordWriter writer) throws IOException;
+
+    /**
+     * Append the column's raw value to a text column, or null if it is missing
+     */
+    public abstract void copyText(int column, TextColumn target);
+
+    protected static boolean equalsIgnoreCase(byte[] bytes, int start, int end, String option) {
+        if (end - start != option.length()) {
+            return false;
+        }
+        for (int i = 0; i < option.length(); i++) {
+            int a = bytes[start + i];
+            int b = option.charAt(i);
+            if (a != b && toLower(a) != toLower(b)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int toLower(int c) {
+        return c >= 'A' && c <= 'Z' ? c + ('a' - 'A') : c;
+    }
+}
@@ -0,0 +1,97 @@
+package com.calculators.io;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Text values of one column for a block of rows, such as the ids of an upload, held
+ * until the block has been computed and can be written.
+ *
+ * Values are copied into shared buffers in whatever form the reader has them (UTF-8
+ * bytes, chars or a number), so filling the column again after {@link #clear()} does
+ * not allocate once the buffers have grown to fit.
+ */
+public class TextColumn {
+
+    private static final byte NULL = 0;
+    private static final byte BYTES = 1;
+    private static final byte CHARS = 2;
+    private static final byte NUMBER = 3;
+
+    private final byte[] kinds;
+    private final int[] starts;
+    private final int[] lengths;
+    private final double[] numbers;
+    private byte[] bytes = new byte[4096];
+    private char[] chars = new char[4096];
+    private int byteCount;
+    private int charCount;
+    private int size;
+
+    public TextColumn(int capacity) {
+        this.kinds = new byte[capacity];
+        this.starts = new int[capacity];
+        this.lengths = new int[capacity];
+        this.numbers = new double[capacity];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public void clear() {
+        size = 0;
+        byteCount = 0;
+        charCount = 0;
+    }
+
+    public void addNull() {
+        kinds[size++] = NULL;
+    }
+
+    public void add(byte[] utf8, int offset, int length) {
+        if (byteCount + length > bytes.length) {
+            bytes = Arrays.copyOf(bytes, Math.max(byteCount + length, bytes.length * 2));
+        }
+        System.arraycopy(utf8, offset, bytes, byteCount, length);
+        kinds[size] = BYTES;
+        starts[size] = byteCount;
+        lengths[size++] = length;
+        byteCount += length;
+    }
+
+    public void add(char[] text, int offset, int length) {
+        if (charCount + length > chars.length) {
+            chars = Arrays.copyOf(chars, Math.max(charCount + length, chars.length * 2));
+        }
+        System.arraycopy(text, offset, chars, charCount, length);
+        kinds[size] = CHARS;
+        starts[size] = charCount;
+        lengths[size++] = length;
+        charCount += length;
+    }
+
+    public void add(double number) {
+        kinds[size] = NUMBER;
+        numbers[size++] = number;
+    }
+
+    /**
+     * Write the value of the given row as the next field of the current record
+     */
+    public void write(int row, RecordWriter writer) throws IOException {
+        switch (kinds[row]) {
+            case BYTES -> writer.field(bytes, starts[row], lengths[row]);
+            case CHARS -> writer.field(chars, starts[row], lengths[row]);
+            case NUMBER -> {
+                double value = numbers[row];
+                if (value == Math.rint(value) && Math.abs(value) < 1e15) {
+                    writer.field((long) value);
+                } else {
+                    writer.field(value, 8);
+                }
+            }
+            default -> writer.nullField();
+        }
+    }
+}
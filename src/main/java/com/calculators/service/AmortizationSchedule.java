@@ -0,0 +1,139 @@
+package com.calculators.service;
+
+import lombok.Getter;
+
+/**
+ * Streaming mortgage amortization schedule.
+ *
+ * Rows are produced in fixed-size chunks held in one primitive array per column,
+ * so memory stays constant no matter how long the term is. Call {@link #next()}
+ * until it returns 0 and read rows {@code 0..count-1} from the column arrays.
+ * All money is tracked in whole cents with {@link Money}, so the schedule is exact.
+ */
+@Getter
+public class AmortizationSchedule {
+
+    public static final int CHUNK_SIZE = 128;
+
+    private final int[] month = new int[CHUNK_SIZE];
+    private final long[] payment = new long[CHUNK_SIZE];
+    private final long[] principal = new long[CHUNK_SIZE];
+    private final long[] interest = new long[CHUNK_SIZE];
+    private final long[] extra = new long[CHUNK_SIZE];
+    private final long[] tax = new long[CHUNK_SIZE];
+    private final long[] insurance = new long[CHUNK_SIZE];
+    private final long[] pmi = new long[CHUNK_SIZE];
+    private final long[] total = new long[CHUNK_SIZE];
+    private final long[] balance = new long[CHUNK_SIZE];
+
+    private final AmortizationTerms terms;
+
+    private long remaining;
+    private int currentMonth;
+    private long totalInterest;
+    private long totalPmi;
+    private long totalPaid;
+
+    public AmortizationSchedule(MortgageInputs inputs) {
+        this(AmortizationTerms.of(inputs));
+    }
+
+    public AmortizationSchedule(AmortizationTerms terms) {
+        this.terms = terms;
+        this.remaining = terms.loanAmount();
+    }
+
+    /**
+     * Continue from a known position instead of the first month, so the next row is
+     * {@code completedMonths + 1}. Totals are those of the months already completed.
+     */
+    public void seek(int completedMonths, long remaining, long totalInterest, long totalPmi, long totalPaid) {
+        this.currentMonth = completedMonths;
+        this.remaining = remaining;
+        this.totalInterest = totalInterest;
+        this.totalPmi = totalPmi;
+        this.totalPaid = totalPaid;
+    }
+
+    /**
+     * Compute the next chunk of rows. Amounts are in cents.
+     *
+     * @return number of rows filled, 0 once the loan is paid off
+     */
+    public int next() {
+        long monthlyRate = terms.monthlyRate();
+        int termMonths = terms.termMonths();
+        long scheduledPayment = terms.scheduledPayment();
+        long monthlyTax = terms.monthlyTax();
+        long monthlyInsurance = terms.monthlyInsurance();
+        long monthlyPmi = terms.monthlyPmi();
+        long pmiCancelThreshold = terms.pmiCancelThreshold();
+
+        int count = 0;
+        while (count < CHUNK_SIZE && remaining > 0 && currentMonth < termMonths) {
+            int m = ++currentMonth;
+            long openingBalance = remaining;
+            long monthInterest = Money.applyRate(openingBalance, monthlyRate, AmortizationTerms.ROUNDING);
+            long monthPrincipal = Math.min(scheduledPayment - monthInterest, openingBalance);
+            if (m == termMonths) {
+                // Absorb accumulated rounding in the final scheduled payment
+                monthPrincipal = openingBalance;
+            }
+
+            long monthExtra = terms.extraMonthly();
+            if (m % 12 == 0) {
+                monthExtra += terms.extraYearly();
+            }
+            if (m == terms.extraOneTimeMonth()) {
+                monthExtra += terms.extraOneTime();
+            }
+            monthExtra = Math.min(monthExtra, openingBalance - monthPrincipal);
+
+            long monthPmi = openingBalance * 100 > pmiCancelThreshold ? monthlyPmi : 0;
+            remaining = openingBalance - monthPrincipal - monthExtra;
+
+            month[count] = m;
+            payment[count] = monthPrincipal + monthInterest;
+            principal[count] = monthPrincipal;
+            interest[count] = monthInterest;
+            extra[count] = monthExtra;
+            tax[count] = monthlyTax;
+            insurance[count] = monthlyInsurance;
+            pmi[count] = monthPmi;
+            total[count] = monthPrincipal + monthInterest + monthExtra + monthlyTax + monthlyInsurance + monthPmi;
+            balance[count] = remaining;
+
+            totalInterest += monthInterest;
+            totalPmi += monthPmi;
+            totalPaid += total[count];
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * Scheduled principal and interest plus the escrow items for the first month, in cents
+     */
+    public long getInitialMonthlyPayment() {
+        return terms.scheduledPayment() + terms.monthlyTax() + terms.monthlyInsurance() + terms.monthlyPmi();
+    }
+
+    /**
+     * Run the remaining months and summarise the whole loan
+     */
+    public MortgageSummary summarize() {
+        while (next() > 0) {
+            // Only the running totals are needed
+        }
+        return summary();
+    }
+
+    /**
+     * Totals of the months computed so far; the whole loan once {@link #next()} has returned 0
+     */
+    public MortgageSummary summary() {
+        return new MortgageSummary(Money.toDouble(terms.loanAmount()), Money.toDouble(terms.scheduledPayment()),
+                Money.toDouble(getInitialMonthlyPayment()), currentMonth,
+                Money.toDouble(totalInterest), Money.toDouble(totalPmi), Money.toDouble(totalPaid));
+    }
+}
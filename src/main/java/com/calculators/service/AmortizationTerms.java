@@ -0,0 +1,94 @@
+package com.calculators.service;
+
+import java.math.RoundingMode;
+
+/**
+ * The fixed parameters of an amortization schedule, converted once to cents and rates.
+ *
+ * @param monthlyPmi         charged while the balance is above the cancellation threshold
+ * @param pmiCancelThreshold 78% of the home price, times 100 so it compares exactly against balance * 100
+ * @param extraOneTimeMonth  month of the one-time extra payment, 0 for none
+ */
+public record AmortizationTerms(long loanAmount, long monthlyRate, int termMonths, long scheduledPayment,
+                                long monthlyTax, long monthlyInsurance, long monthlyPmi, long pmiCancelThreshold,
+                                long extraMonthly, long extraYearly, long extraOneTime, int extraOneTimeMonth) {
+
+    /** Interest and payments round half-up to the cent, as lenders' statements do */
+    public static final RoundingMode ROUNDING = RoundingMode.HALF_UP;
+
+    /** PMI is required above 80% loan-to-value and cancelled automatically at 78% */
+    private static final long PMI_REQUIRED_LTV_PERCENT = 80;
+    private static final long PMI_CANCEL_LTV_PERCENT = 78;
+
+    public static AmortizationTerms of(MortgageInputs inputs) {
+        inputs.validate();
+        try {
+            long homePrice = Money.ofDollars(inputs.getHomePrice());
+            long loanAmount = Money.subtract(homePrice, Money.ofDollars(inputs.getDownPayment()));
+            long monthlyRate = monthlyRate(inputs.getInterestRate());
+            int termMonths = inputs.getTermMonths();
+            boolean pmiRequired = Money.multiply(loanAmount, 100) > Money.multiply(homePrice, PMI_REQUIRED_LTV_PERCENT);
+            return new AmortizationTerms(loanAmount, monthlyRate, termMonths,
+                    Money.annuityPayment(loanAmount, monthlyRate, termMonths, ROUNDING),
+                    Money.mulDiv(homePrice, Money.rateOfPercent(inputs.getPropertyTaxRate()), 12 * Money.RATE_ONE, ROUNDING),
+                    Money.divide(Money.ofDollars(inputs.getAnnualInsurance()), 12, ROUNDING),
+                    pmiRequired
+                            ? Money.mulDiv(loanAmount, Money.rateOfPercent(inputs.getPmiRate()), 12 * Money.RATE_ONE, ROUNDING)
+                            : 0,
+                    Money.multiply(homePrice, PMI_CANCEL_LTV_PERCENT),
+                    Money.ofDollars(inputs.getExtraMonthly()), Money.ofDollars(inputs.getExtraYearly()),
+                    Money.ofDollars(inputs.getExtraOneTime()), inputs.getExtraOneTimeMonth());
+        } catch (ArithmeticException e) {
+            throw new IllegalArgumentException("The inputs are too large to calculate", e);
+        }
+    }
+
+    /**
+     * An installment loan has no escrow or PMI, only principal, interest and extra payments
+     */
+    public static AmortizationTerms of(LoanScheduleInputs inputs) {
+        inputs.validate();
+        try {
+            long loanAmount = Money.ofDollars(inputs.getAmount());
+            long monthlyRate = monthlyRate(inputs.getInterestRate());
+            int termMonths = inputs.getTermMonths();
+            return new AmortizationTerms(loanAmount, monthlyRate, termMonths,
+                    Money.annuityPayment(loanAmount, monthlyRate, termMonths, ROUNDING), 0, 0, 0, 0,
+                    Money.ofDollars(inputs.getExtraMonthly()), Money.ofDollars(inputs.getExtraYearly()),
+                    Money.ofDollars(inputs.getExtraOneTime()), inputs.getExtraOneTimeMonth());
+        } catch (ArithmeticException e) {
+            throw new IllegalArgumentException("The inputs are too large to calculate", e);
+        }
+    }
+
+    private static long monthlyRate(double annualPercent) {
+        return Money.divide(Money.rateOfPercent(annualPercent), 12, RoundingMode.HALF_EVEN);
+    }
+
+    /**
+     * First month whose row can differ between schedules with these terms and {@code other}.
+     * Rows before it are identical, so a schedule can be recomputed from that month on.
+     *
+     * @return the month, or 0 if every row is the same
+     */
+    public int firstDifferentMonth(AmortizationTerms other) {
+        if (loanAmount != other.loanAmount || monthlyRate != other.monthlyRate || termMonths != other.termMonths
+                || scheduledPayment != other.scheduledPayment || monthlyTax != other.monthlyTax
+                || monthlyInsurance != other.monthlyInsurance || monthlyPmi != other.monthlyPmi
+                || pmiCancelThreshold != other.pmiCancelThreshold || extraMonthly != other.extraMonthly) {
+            return 1;
+        }
+        int first = Integer.MAX_VALUE;
+        if (extraYearly != other.extraYearly) {
+            first = 12;
+        }
+        if (extraOneTime != other.extraOneTime || extraOneTimeMonth != other.extraOneTimeMonth) {
+            first = Math.min(first, Math.min(oneTimeMonth(), other.oneTimeMonth()));
+        }
+        return first > termMonths ? 0 : first;
+    }
+
+    private int oneTimeMonth() {
+        return extraOneTime > 0 && extraOneTimeMonth > 0 ? extraOneTimeMonth : Integer.MAX_VALUE;
+    }
+}
@@ -0,0 +1,92 @@
+package com.calculators.service;
+
+import java.util.Arrays;
+
+/**
+ * Compact cache key for a calculation: the calculation type plus its inputs quantized
+ * to fixed-point longs. Money is kept in cents and rates in ten-thousandths of a
+ * percent, so inputs that only differ below what the calculators display share a key.
+ */
+public final class CacheKey {
+
+    private final int type;
+    private final long[] values;
+    private final int hash;
+
+    private CacheKey(int type, long[] values) {
+        this.type = type;
+        this.values = values;
+        this.hash = 31 * type + Arrays.hashCode(values);
+    }
+
+    public static Builder builder(int type, int size) {
+        return new Builder(type, size);
+    }
+
+    /**
+     * Approximate retained size in bytes
+     */
+    public int estimatedSize() {
+        return 32 + 16 + values.length * Long.BYTES;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof CacheKey key && key.hash == hash && key.type == type && Arrays.equals(key.values, values);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        return type + Arrays.toString(values);
+    }
+
+    /** Round a dollar amount to whole cents */
+    public static double money(double value) {
+        return Math.round(value * 100) / 100.0;
+    }
+
+    /** Round a percentage to four decimals */
+    public static double rate(double value) {
+        return Math.round(value * 10_000) / 10_000.0;
+    }
+
+    public static final class Builder {
+        private final int type;
+        private final long[] values;
+        private int size;
+
+        private Builder(int type, int size) {
+            this.type = type;
+            this.values = new long[size];
+        }
+
+        /** Add a value already rounded with {@link #money(double)} */
+        public Builder money(double value) {
+            values[size++] = Math.round(value * 100);
+            return this;
+        }
+
+        /** Add a value already rounded with {@link #rate(double)} */
+        public Builder rate(double value) {
+            values[size++] = Math.round(value * 10_000);
+            return this;
+        }
+
+        public Builder count(long value) {
+            values[size++] = value;
+            return this;
+        }
+
+        public CacheKey build() {
+            if (size != values.length) {
+                throw new IllegalStateException("Expected " + values.length + " key values but got " + size);
+            }
+            return new CacheKey(type, values);
+        }
+    }
+}
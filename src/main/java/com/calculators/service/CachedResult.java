@@ -0,0 +1,12 @@
+package com.calculators.service;
+
+/**
+ * Calculation result that can be held in the {@link ResultCache}
+ */
+public interface CachedResult {
+
+    /**
+     * Approximate retained size in bytes, used to bound the cache by memory
+     */
+    int estimatedSize();
+}
@@ -0,0 +1,45 @@
+package com.calculators.service;
+
+import org.springframework.stereotype.Service;
+
+/**
+ * Single-result calculations served through the shared {@link ResultCache}
+ */
+@Service
+public class CalculationService {
+
+    private final ResultCache resultCache;
+
+    public CalculationService(ResultCache resultCache) {
+        this.resultCache = resultCache;
+    }
+
+    public MortgageSummary mortgage(MortgageInputs inputs) {
+        // The raw inputs are checked first because rounding would turn NaN into 0
+        inputs.validate();
+        MortgageInputs normalized = inputs.normalized();
+        normalized.validate();
+        return resultCache.get(normalized.cacheKey(), () -> new AmortizationSchedule(normalized).summarize());
+    }
+
+    public LoanResult loan(LoanScenario scenario) {
+        scenario.validate();
+        LoanScenario normalized = scenario.normalized();
+        normalized.validate();
+        return resultCache.get(normalized.cacheKey(), () -> LoanCalculator.evaluate(0, normalized));
+    }
+
+    public GrowthResult investment(InvestmentInputs inputs) {
+        inputs.validate();
+        InvestmentInputs normalized = inputs.normalized();
+        normalized.validate();
+        return resultCache.get(normalized.cacheKey(), () -> GrowthCalculator.investment(normalized));
+    }
+
+    public GrowthResult compoundInterest(CompoundInterestInputs inputs) {
+        inputs.validate();
+        CompoundInterestInputs normalized = inputs.normalized();
+        normalized.validate();
+        return resultCache.get(normalized.cacheKey(), () -> GrowthCalculator.compoundInterest(normalized));
+    }
+}
@@ -0,0 +1,170 @@
+package com.calculators.service;
+
+import org.springframework.stereotype.Service;
+
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Computes the results shown on a calculator page from decoded permalink inputs,
+ * so shared links render with the answer already filled in. Calculators whose math
+ * only runs in the browser have no server-side result.
+ */
+@Service
+public class CalculatorResults {
+
+    private final CalculationService calculationService;
+    private final UnitConverter unitConverter;
+
+    public CalculatorResults(CalculationService calculationService, UnitConverter unitConverter) {
+        this.calculationService = calculationService;
+        this.unitConverter = unitConverter;
+    }
+
+    /**
+     * @return the result for the calculator, or null if it has none or the inputs are invalid
+     */
+    public Object compute(String slug, Map<String, Object> inputs) {
+        try {
+            return switch (slug) {
+                case "mortgage" -> mortgage(inputs);
+                case "loan" -> loan(inputs);
+                case "investment" -> investment(inputs);
+                case "compound-interest" -> compoundInterest(inputs);
+                case "tax" -> tax(inputs);
+                case "unit-converter" -> convert(inputs);
+                case "bmi" -> health(HealthMetric.BMI, inputs);
+                case "body-fat" -> health(HealthMetric.BODY_FAT, inputs);
+                case "calorie" -> health(HealthMetric.CALORIE, inputs);
+                default -> null;
+            };
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private MortgageSummary mortgage(Map<String, Object> inputs) {
+        MortgageInputs mortgage = new MortgageInputs();
+        mortgage.setHomePrice(number(inputs, "homePrice"));
+        mortgage.setDownPayment(number(inputs, "downPayment"));
+        mortgage.setInterestRate(number(inputs, "interestRate"));
+        mortgage.setTermYears(integer(inputs, "termYears"));
+        mortgage.setPropertyTaxRate(number(inputs, "propertyTaxRate"));
+        mortgage.setAnnualInsurance(number(inputs, "annualInsurance"));
+        mortgage.setPmiRate(number(inputs, "pmiRate"));
+        mortgage.setExtraMonthly(number(inputs, "extraMonthly"));
+        mortgage.setExtraYearly(number(inputs, "extraYearly"));
+        mortgage.setExtraOneTime(number(inputs, "extraOneTime"));
+        mortgage.setExtraOneTimeMonth(integer(inputs, "extraOneTimeMonth"));
+        return calculationService.mortgage(mortgage);
+    }
+
+    private LoanResult loan(Map<String, Object> inputs) {
+        LoanScenario scenario = new LoanScenario();
+        scenario.setAmount(number(inputs, "amount"));
+        scenario.setInterestRate(number(inputs, "interestRate"));
+        scenario.setTermMonths(integer(inputs, "termMonths"));
+        scenario.setFees(number(inputs, "fees"));
+        return calculationService.loan(scenario);
+    }
+
+    private GrowthResult investment(Map<String, Object> inputs) {
+        InvestmentInputs investment = new InvestmentInputs();
+        investment.setInitialAmount(number(inputs, "initialAmount"));
+        investment.setMonthlyContribution(number(inputs, "monthlyContribution"));
+        investment.setContributionIncrease(number(inputs, "contributionIncrease"));
+        investment.setAnnualReturn(number(inputs, "annualReturn"));
+        investment.setExpenseRatio(number(inputs, "expenseRatio"));
+        investment.setYears(integer(inputs, "years"));
+        return calculationService.investment(investment);
+    }
+
+    private GrowthResult compoundInterest(Map<String, Object> inputs) {
+        CompoundInterestInputs compound = new CompoundInterestInputs();
+        compound.setPrincipal(number(inputs, "principal"));
+        compound.setAnnualRate(number(inputs, "annualRate"));
+        compound.setCompoundsPerYear(integer(inputs, "compoundsPerYear"));
+        compound.setYears(integer(inputs, "years"));
+        compound.setMonthlyContribution(number(inputs, "monthlyContribution"));
+        return calculationService.compoundInterest(compound);
+    }
+
+    private TaxResult tax(Map<String, Object> inputs) {
+        TaxInputs tax = new TaxInputs();
+        tax.setFilingStatus(FilingStatus.valueOf(((String) inputs.get("filingStatus")).toUpperCase(Locale.ROOT)));
+        tax.setWages(number(inputs, "wages"));
+        tax.setOtherIncome(number(inputs, "otherIncome"));
+        tax.setPreTaxDeductions(number(inputs, "preTaxDeductions"));
+        tax.setItemizedDeductions(number(inputs, "itemizedDeductions"));
+        tax.setCredits(number(inputs, "credits"));
+        tax.setStateRate(number(inputs, "stateRate"));
+        tax.validate();
+        TaxResult result = new TaxResult();
+        TaxEngine.compute(tax, result);
+        return result;
+    }
+
+    private Map<String, Object> convert(Map<String, Object> inputs) {
+        Unit from = unitConverter.find((String) inputs.get("from"));
+        Unit to = unitConverter.find((String) inputs.get("to"));
+        double value = unitConverter.convert(unitConverter.pair(from, to), number(inputs, "value"));
+        return Map.of("value", value, "unit", to);
+    }
+
+    /**
+     * Run a single row through the same formulas as the bulk health endpoints
+     */
+    private Map<String, Object> health(HealthMetric metric, Map<String, Object> inputs) {
+        HealthBatch batch = new HealthBatch(1);
+        batch.setSize(1);
+        batch.getHeight()[0] = number(inputs, "height");
+        switch (metric) {
+            case BMI -> {
+                batch.getUnits()[0] = (byte) choice(inputs, "units", HealthFormulas.UNIT_CODES);
+                batch.getWeight()[0] = number(inputs, "weight");
+            }
+            case BODY_FAT -> {
+                batch.getSex()[0] = (byte) (choice(inputs, "sex", HealthFormulas.SEX_CODES) % 2);
+                batch.getWaist()[0] = number(inputs, "waist");
+                batch.getNeck()[0] = number(inputs, "neck");
+                batch.getHip()[0] = number(inputs, "hip");
+            }
+            case CALORIE -> {
+                batch.getSex()[0] = (byte) (choice(inputs, "sex", HealthFormulas.SEX_CODES) % 2);
+                batch.getAge()[0] = number(inputs, "age");
+                batch.getWeight()[0] = number(inputs, "weight");
+                batch.getActivity()[0] = (byte) choice(inputs, "activity", HealthFormulas.ACTIVITY_CODES);
+                batch.getGoal()[0] = (byte) choice(inputs, "goal", HealthFormulas.GOAL_CODES);
+            }
+        }
+        HealthFormulas.compute(metric, batch, 0, 1);
+        if (batch.getErrors()[0] != null) {
+            throw new IllegalArgumentException(batch.getErrors()[0]);
+        }
+        String category = HealthFormulas.categories(metric)[batch.getCategory()[0]];
+        return switch (metric) {
+            case BMI -> Map.of("bmi", batch.getValue()[0], "category", category);
+            case BODY_FAT -> Map.of("bodyFat", batch.getValue()[0], "category", category);
+            case CALORIE -> Map.of("bmr", batch.getBmr()[0], "maintenance", batch.getMaintenance()[0],
+                    "calories", batch.getValue()[0], "goal", category);
+        };
+    }
+
+    private static int choice(Map<String, Object> inputs, String name, String[] codes) {
+        String value = (String) inputs.get(name);
+        for (int i = 0; i < codes.length; i++) {
+            if (codes[i].equalsIgnoreCase(value)) {
+                return i;
+            }
+        }
+        throw new IllegalArgumentException("Unknown " + name + ": " + value);
+    }
+
+    private static double number(Map<String, Object> inputs, String name) {
+        return ((Number) inputs.get(name)).doubleValue();
+    }
+
+    private static int integer(Map<String, Object> inputs, String name) {
+        return ((Number) inputs.get(name)).intValue();
+    }
+}
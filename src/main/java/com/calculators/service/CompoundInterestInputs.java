@@ -0,0 +1,58 @@
+package com.calculators.service;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Inputs for compound interest on a deposit with optional monthly additions.
+ * The rate is a nominal annual percentage compounded {@code compoundsPerYear} times.
+ */
+@Getter
+@Setter
+public class CompoundInterestInputs {
+    private double principal = 10_000;
+    private double annualRate = 5;
+    private int compoundsPerYear = 12;
+    private int years = 10;
+    private double monthlyContribution;
+
+    /**
+     * A copy rounded to the precision the calculators display, which is what gets computed and cached
+     */
+    public CompoundInterestInputs normalized() {
+        CompoundInterestInputs copy = new CompoundInterestInputs();
+        copy.principal = CacheKey.money(principal);
+        copy.annualRate = CacheKey.rate(annualRate);
+        copy.compoundsPerYear = compoundsPerYear;
+        copy.years = years;
+        copy.monthlyContribution = CacheKey.money(monthlyContribution);
+        return copy;
+    }
+
+    /**
+     * Cache key of inputs that are already {@link #normalized()}
+     */
+    public CacheKey cacheKey() {
+        return CacheKey.builder(ResultCache.COMPOUND_INTEREST, 5)
+                .money(principal).rate(annualRate).count(compoundsPerYear).count(years).money(monthlyContribution)
+                .build();
+    }
+
+    /**
+     * Reject inputs that cannot produce a meaningful projection
+     */
+    public void validate() {
+        if (!(principal >= 0) || !(monthlyContribution >= 0) || principal > 1_000_000_000) {
+            throw new IllegalArgumentException("Amounts must be between 0 and 1,000,000,000");
+        }
+        if (annualRate < 0 || annualRate > 100) {
+            throw new IllegalArgumentException("annualRate must be between 0 and 100");
+        }
+        if (compoundsPerYear < 1 || compoundsPerYear > 365) {
+            throw new IllegalArgumentException("compoundsPerYear must be between 1 and 365");
+        }
+        if (years < 1 || years > 100) {
+            throw new IllegalArgumentException("years must be between 1 and 100");
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package com.calculators.service;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Dedicated fork-join pool for CPU-heavy calculations.
+ *
+ * Work runs off the servlet threads, and a permit limit on concurrent jobs keeps
+ * a few large requests from monopolising the cores that page traffic needs. Unless
+ * {@code app.compute.parallelism} is set, the pool has one thread fewer than there are
+ * processors, so even a single large job leaves a core free for serving pages.
+ */
+@Component
+public class ComputePool {
+
+    private final ForkJoinPool pool;
+    private final Semaphore permits;
+
+    public ComputePool(@Value("${app.compute.parallelism:0}") int parallelism,
+                       @Value("${app.compute.max-concurrent-jobs:4}") int maxConcurrentJobs) {
+        int threads = parallelism > 0 ? parallelism : Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
+        this.pool = new ForkJoinPool(threads);
+        this.permits = new Semaphore(maxConcurrentJobs);
+    }
+
+    public int getParallelism() {
+        return pool.getParallelism();
+    }
+
+    /**
+     * Run a job on the pool and wait for its result
+     *
+     * @throws RejectedExecutionException when the concurrent job limit is reached
+     */
+    public <T> T invoke(Callable<T> job) {
+        if (!permits.tryAcquire()) {
+            throw new RejectedExecutionException("Too many concurrent calculation jobs");
+        }
+        try {
+            return pool.submit(job).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Calculation interrupted", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Calculation failed", e.getCause());
+        } finally {
+            permits.release();
+        }
+    }
+
+    /**
+     * Start a job on the pool without waiting for it. The permit is held until the job finishes.
+     *
+     * @throws RejectedExecutionException when the concurrent job limit is reached
+     */
+    public <T> CompletableFuture<T> submit(Callable<T> job) {
+        if (!permits.tryAcquire()) {
+            throw new RejectedExecutionException("Too many concurrent calculation jobs");
+        }
+        try {
+            return execute(job, permits::release);
+        } catch (RejectedExecutionException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    /**
+     * Take one permit for a series of jobs, such as the blocks of a streamed upload, so the
+     * series cannot be turned away halfway through once its response has started
+     *
+     * @throws RejectedExecutionException when the concurrent job limit is reached
+     */
+    public Lease lease() {
+        if (!permits.tryAcquire()) {
+            throw new RejectedExecutionException("Too many concurrent calculation jobs");
+        }
+        return new Lease();
+    }
+
+    private <T> CompletableFuture<T> execute(Callable<T> job, Runnable done) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        pool.execute(() -> {
+            try {
+                future.complete(job.call());
+            } catch (Throwable e) {
+                future.completeExceptionally(e);
+            } finally {
+                done.run();
+            }
+        });
+        return future;
+    }
+
+    /**
+     * A permit held by one caller until closed. Jobs submitted through it need no permit of their own.
+     */
+    public final class Lease implements AutoCloseable {
+
+        private boolean closed;
+
+        private Lease() {}
+
+        public <T> CompletableFuture<T> submit(Callable<T> job) {
+            if (closed) {
+                throw new IllegalStateException("Lease is closed");
+            }
+            return execute(job, () -> {});
+        }
+
+        @Override
+        public void close() {
+            if (!closed) {
+                closed = true;
+                permits.release();
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pool.shutdown();
+    }
+}
@@ -0,0 +1,28 @@
+package com.calculators.service;
+
+/**
+ * Federal filing status
+ */
+public enum FilingStatus {
+    SINGLE,
+    MARRIED_JOINT,
+    MARRIED_SEPARATE,
+    HEAD_OF_HOUSEHOLD;
+
+    /** Accepted spellings in uploads, matched case-insensitively; see {@link #fromCode(int)} */
+    public static final String[] CODES = {
+            "single", "married_joint", "married_separate", "head_of_household",
+            "s", "mfj", "mfs", "hoh", "married", "joint", "separate"
+    };
+    private static final FilingStatus[] CODE_STATUS = {
+            SINGLE, MARRIED_JOINT, MARRIED_SEPARATE, HEAD_OF_HOUSEHOLD,
+            SINGLE, MARRIED_JOINT, MARRIED_SEPARATE, HEAD_OF_HOUSEHOLD, MARRIED_JOINT, MARRIED_JOINT, MARRIED_SEPARATE
+    };
+
+    /**
+     * @param code index into {@link #CODES}
+     */
+    public static FilingStatus fromCode(int code) {
+        return CODE_STATUS[code];
+    }
+}
@@ -0,0 +1,69 @@
+package com.calculators.service;
+
+import java.math.RoundingMode;
+
+/**
+ * Compound growth math for the investment and compound interest calculators.
+ *
+ * Monthly additions are compounded at the monthly rate equivalent to the periodic
+ * compounding, so the projection is exact for any compounding frequency. Balances are
+ * tracked in whole cents with {@link Money}; only the conversion of a rate to its
+ * monthly equivalent, a fractional power, is done in floating point.
+ */
+public final class GrowthCalculator {
+
+    private static final RoundingMode ROUNDING = RoundingMode.HALF_UP;
+
+    private GrowthCalculator() {}
+
+    public static GrowthResult investment(InvestmentInputs inputs) {
+        inputs.validate();
+        double netReturn = (inputs.getAnnualReturn() - inputs.getExpenseRatio()) / 100;
+        long monthlyRate = Money.rateOf(Math.pow(1 + netReturn, 1.0 / 12) - 1);
+        return project(Money.ofDollars(inputs.getInitialAmount()), Money.ofDollars(inputs.getMonthlyContribution()),
+                Money.RATE_ONE + Money.rateOfPercent(inputs.getContributionIncrease()), monthlyRate, inputs.getYears());
+    }
+
+    public static GrowthResult compoundInterest(CompoundInterestInputs inputs) {
+        inputs.validate();
+        int compounds = inputs.getCompoundsPerYear();
+        long periodicRate = Money.divide(Money.rateOfPercent(inputs.getAnnualRate()), compounds, RoundingMode.HALF_EVEN);
+        long monthlyRate = compounds == 12
+                ? periodicRate
+                : Money.rateOf(Math.pow(1 + Money.rateToDouble(periodicRate), compounds / 12.0) - 1);
+        return project(Money.ofDollars(inputs.getPrincipal()), Money.ofDollars(inputs.getMonthlyContribution()),
+                Money.RATE_ONE, monthlyRate, inputs.getYears());
+    }
+
+    /**
+     * Grow a balance year by year with contributions at the end of each month
+     */
+    private static GrowthResult project(long initial, long monthlyContribution, long contributionGrowth,
+                                        long monthlyRate, int years) {
+        try {
+            long yearGrowth = Money.pow(Money.RATE_ONE + monthlyRate, 12);
+            // Future value of twelve end-of-month payments of 1
+            long annuity = monthlyRate == 0
+                    ? 12 * Money.RATE_ONE
+                    : Money.divideRates(yearGrowth - Money.RATE_ONE, monthlyRate);
+
+            double[] yearlyBalance = new double[years + 1];
+            long balance = initial;
+            long contributions = initial;
+            long contribution = monthlyContribution;
+            yearlyBalance[0] = Money.toDouble(balance);
+            for (int year = 1; year <= years; year++) {
+                balance = Money.add(Money.applyRate(balance, yearGrowth, ROUNDING),
+                        Money.applyRate(contribution, annuity, ROUNDING));
+                contributions = Money.add(contributions, Money.multiply(contribution, 12));
+                contribution = Money.applyRate(contribution, contributionGrowth, ROUNDING);
+                yearlyBalance[year] = Money.toDouble(balance);
+            }
+            return new GrowthResult(Money.toDouble(balance), Money.toDouble(contributions),
+                    Money.toDouble(balance - contributions),
+                    Math.round(Money.rateToDouble(yearGrowth - Money.RATE_ONE) * 1_000_000) / 10_000.0, yearlyBalance);
+        } catch (ArithmeticException e) {
+            throw new IllegalArgumentException("The projected balance is too large", e);
+        }
+    }
+}
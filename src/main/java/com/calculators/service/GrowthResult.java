@@ -0,0 +1,24 @@
+package com.calculators.service;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Projected growth of a balance, with the balance at the end of every year
+ */
+@Getter
+@AllArgsConstructor
+public class GrowthResult implements CachedResult {
+    private final double finalBalance;
+    private final double totalContributions;
+    private final double totalGrowth;
+    /** Annual percentage yield after compounding */
+    private final double effectiveAnnualRate;
+    /** Balance at the start followed by the balance after each year */
+    private final double[] yearlyBalance;
+
+    @Override
+    public int estimatedSize() {
+        return 48 + 16 + yearlyBalance.length * Double.BYTES;
+    }
+}
@@ -0,0 +1,76 @@
+package com.calculators.service;
+
+import com.calculators.io.TextColumn;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * A block of health measurements and their results in columnar form.
+ *
+ * Every input and output is a primitive array indexed by row, so a block is filled,
+ * computed by {@link HealthFormulas} and written without any per-row objects, and the
+ * same instance is reused for the next block. Choices (sex, units, activity, goal) hold
+ * the index of the matched code in {@link HealthFormulas}. Rows with an error are skipped
+ * by the formulas and have no results.
+ */
+@Getter
+public class HealthBatch {
+
+    private final int capacity;
+    @Setter
+    private int size;
+
+    private final long[] rowNumbers;
+    private final TextColumn ids;
+    private final String[] errors;
+
+    private final byte[] sex;
+    private final byte[] units;
+    private final byte[] activity;
+    private final byte[] goal;
+    private final double[] age;
+    private final double[] height;
+    private final double[] weight;
+    private final double[] waist;
+    private final double[] neck;
+    private final double[] hip;
+
+    /** BMI, body fat percentage or target calories */
+    private final double[] value;
+    /** Basal metabolic rate, for calories */
+    private final double[] bmr;
+    /** Calories to maintain the current weight */
+    private final double[] maintenance;
+    /** Index into the metric's category labels, -1 when the row has an error */
+    private final byte[] category;
+
+    public HealthBatch(int capacity) {
+        this.capacity = capacity;
+        this.rowNumbers = new long[capacity];
+        this.ids = new TextColumn(capacity);
+        this.errors = new String[capacity];
+        this.sex = new byte[capacity];
+        this.units = new byte[capacity];
+        this.activity = new byte[capacity];
+        this.goal = new byte[capacity];
+        this.age = new double[capacity];
+        this.height = new double[capacity];
+        this.weight = new double[capacity];
+        this.waist = new double[capacity];
+        this.neck = new double[capacity];
+        this.hip = new double[capacity];
+        this.value = new double[capacity];
+        this.bmr = new double[capacity];
+        this.maintenance = new double[capacity];
+        this.category = new byte[capacity];
+    }
+
+    public boolean isFull() {
+        return size == capacity;
+    }
+
+    public void clear() {
+        size = 0;
+        ids.clear();
+    }
+}
@@ -0,0 +1,71 @@
+package com.calculators.service;
+
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Computes blocks of health measurements on the {@link ComputePool}.
+ *
+ * A block is split into slices of {@value #LEAF_ROWS} rows that run on all cores. The
+ * work is handed off asynchronously so the caller can parse the next block of an upload
+ * while this one is computed.
+ */
+@Service
+public class HealthBulkService {
+
+    /** Rows per request block; bounds memory per upload to two blocks */
+    public static final int BLOCK_ROWS = 8192;
+
+    private static final int LEAF_ROWS = 1024;
+
+    private final ComputePool computePool;
+
+    public HealthBulkService(ComputePool computePool) {
+        this.computePool = computePool;
+    }
+
+    /**
+     * Reserve a compute permit for one upload; all of its blocks are submitted through the lease
+     *
+     * @throws java.util.concurrent.RejectedExecutionException when the concurrent job limit is reached
+     */
+    public ComputePool.Lease lease() {
+        return computePool.lease();
+    }
+
+    /**
+     * Start computing every row of the batch
+     */
+    public CompletableFuture<HealthBatch> submit(ComputePool.Lease lease, HealthMetric metric, HealthBatch batch) {
+        return lease.submit(() -> {
+            new Slice(metric, batch, 0, batch.getSize()).invoke();
+            return batch;
+        });
+    }
+
+    private static final class Slice extends RecursiveAction {
+        private final HealthMetric metric;
+        private final HealthBatch batch;
+        private final int from;
+        private final int to;
+
+        Slice(HealthMetric metric, HealthBatch batch, int from, int to) {
+            this.metric = metric;
+            this.batch = batch;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > LEAF_ROWS) {
+                int middle = (from + to) >>> 1;
+                invokeAll(new Slice(metric, batch, from, middle), new Slice(metric, batch, middle, to));
+                return;
+            }
+            HealthFormulas.compute(metric, batch, from, to);
+        }
+    }
+}
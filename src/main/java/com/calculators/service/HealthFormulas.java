@@ -0,0 +1,185 @@
+package com.calculators.service;
+
+/**
+ * BMI, US Navy body fat and Mifflin-St Jeor calorie formulas over columns of a
+ * {@link HealthBatch}.
+ *
+ * Each method handles a range of rows, so a large batch can be split across threads.
+ * Nothing is allocated per row; invalid measurements get a constant error message.
+ */
+public final class HealthFormulas {
+
+    /** Accepted spellings, matched case-insensitively; the index modulo 2 is {@link #MALE} or {@link #FEMALE} */
+    public static final String[] SEX_CODES = {"male", "female", "m", "f"};
+    public static final int MALE = 0;
+    public static final int FEMALE = 1;
+
+    /** Metric is cm and kg, imperial is inches and pounds */
+    public static final String[] UNIT_CODES = {"metric", "imperial"};
+    public static final int METRIC = 0;
+    public static final int IMPERIAL = 1;
+
+    public static final String[] ACTIVITY_CODES = {"sedentary", "light", "moderate", "active", "very_active"};
+    private static final double[] ACTIVITY_FACTORS = {1.2, 1.375, 1.55, 1.725, 1.9};
+
+    public static final String[] GOAL_CODES = {"maintain", "lose", "gain"};
+    private static final double[] GOAL_ADJUSTMENTS = {0, -500, 500};
+
+    public static final String[] BMI_CATEGORIES = {"underweight", "normal", "overweight", "obese"};
+    private static final double[] BMI_THRESHOLDS = {18.5, 25, 30};
+
+    public static final String[] BODY_FAT_CATEGORIES = {"essential", "athletes", "fitness", "average", "obese"};
+    private static final double[][] BODY_FAT_THRESHOLDS = {
+            {6, 14, 18, 25},
+            {14, 21, 25, 32}
+    };
+
+    private static final double BMI_IMPERIAL_FACTOR = 703;
+
+    /** Upper bounds of plausible measurements for the calorie formula, in years, cm and kg */
+    private static final double MAX_AGE = 120;
+    private static final double MAX_HEIGHT = 300;
+    private static final double MAX_WEIGHT = 700;
+
+    private HealthFormulas() {}
+
+    public static void compute(HealthMetric metric, HealthBatch batch, int from, int to) {
+        switch (metric) {
+            case BMI -> bmi(batch, from, to);
+            case BODY_FAT -> bodyFat(batch, from, to);
+            case CALORIE -> calories(batch, from, to);
+        }
+    }
+
+    public static String[] categories(HealthMetric metric) {
+        return switch (metric) {
+            case BMI -> BMI_CATEGORIES;
+            case BODY_FAT -> BODY_FAT_CATEGORIES;
+            case CALORIE -> GOAL_CODES;
+        };
+    }
+
+    /**
+     * Body mass index from height and weight in either unit system
+     */
+    public static void bmi(HealthBatch batch, int from, int to) {
+        String[] errors = batch.getErrors();
+        byte[] units = batch.getUnits();
+        double[] height = batch.getHeight();
+        double[] weight = batch.getWeight();
+        double[] value = batch.getValue();
+        byte[] category = batch.getCategory();
+        for (int i = from; i < to; i++) {
+            if (errors[i] != null) {
+                category[i] = -1;
+                continue;
+            }
+            double h = height[i];
+            double w = weight[i];
+            if (!(h > 0) || !(w > 0)) {
+                errors[i] = "height and weight must be positive";
+                category[i] = -1;
+                continue;
+            }
+            double bmi = units[i] == IMPERIAL
+                    ? BMI_IMPERIAL_FACTOR * w / (h * h)
+                    : w / (h * h * 1e-4);
+            value[i] = bmi;
+            category[i] = band(bmi, BMI_THRESHOLDS);
+        }
+    }
+
+    /**
+     * Body fat percentage from circumferences in cm (US Navy method), with the ACE category
+     */
+    public static void bodyFat(HealthBatch batch, int from, int to) {
+        String[] errors = batch.getErrors();
+        byte[] sex = batch.getSex();
+        double[] height = batch.getHeight();
+        double[] waist = batch.getWaist();
+        double[] neck = batch.getNeck();
+        double[] hip = batch.getHip();
+        double[] value = batch.getValue();
+        byte[] category = batch.getCategory();
+        for (int i = from; i < to; i++) {
+            if (errors[i] != null) {
+                category[i] = -1;
+                continue;
+            }
+            boolean female = sex[i] == FEMALE;
+            double girth = female ? waist[i] + hip[i] - neck[i] : waist[i] - neck[i];
+            if (!(height[i] > 0) || !(girth > 0) || !(neck[i] > 0) || female && !(hip[i] > 0)) {
+                errors[i] = female
+                        ? "height, neck and hip must be positive and waist plus hip larger than neck"
+                        : "height and neck must be positive and waist larger than neck";
+                category[i] = -1;
+                continue;
+            }
+            double density = female
+                    ? 1.29579 - 0.35004 * Math.log10(girth) + 0.22100 * Math.log10(height[i])
+                    : 1.0324 - 0.19077 * Math.log10(girth) + 0.15456 * Math.log10(height[i]);
+            double percent = 495 / density - 450;
+            if (!(percent >= 0)) {
+                errors[i] = "Measurements give a body fat below 0%";
+                category[i] = -1;
+                continue;
+            }
+            value[i] = percent;
+            category[i] = band(percent, BODY_FAT_THRESHOLDS[female ? FEMALE : MALE]);
+        }
+    }
+
+    /**
+     * Daily calories from the Mifflin-St Jeor BMR, activity level and goal, using cm, kg and years
+     */
+    public static void calories(HealthBatch batch, int from, int to) {
+        String[] errors = batch.getErrors();
+        byte[] sex = batch.getSex();
+        byte[] activity = batch.getActivity();
+        byte[] goal = batch.getGoal();
+        double[] age = batch.getAge();
+        double[] height = batch.getHeight();
+        double[] weight = batch.getWeight();
+        double[] bmr = batch.getBmr();
+        double[] maintenance = batch.getMaintenance();
+        double[] value = batch.getValue();
+        byte[] category = batch.getCategory();
+        for (int i = from; i < to; i++) {
+            if (errors[i] != null) {
+                category[i] = -1;
+                continue;
+            }
+            if (!(age[i] > 0 && age[i] <= MAX_AGE) || !(height[i] > 0 && height[i] <= MAX_HEIGHT)
+                    || !(weight[i] > 0 && weight[i] <= MAX_WEIGHT)) {
+                errors[i] = "age must be 0-120 years, height 0-300 cm and weight 0-700 kg";
+                category[i] = -1;
+                continue;
+            }
+            double base = 10 * weight[i] + 6.25 * height[i] - 5 * age[i] + (sex[i] == FEMALE ? -161 : 5);
+            double daily = base * ACTIVITY_FACTORS[activity[i]];
+            double calories = daily + GOAL_ADJUSTMENTS[goal[i]];
+            if (!(base > 0)) {
+                errors[i] = "Measurements give a BMR of 0 or less";
+                category[i] = -1;
+                continue;
+            }
+            if (!(calories > 0)) {
+                errors[i] = "Goal leaves 0 or fewer calories";
+                category[i] = -1;
+                continue;
+            }
+            bmr[i] = base;
+            maintenance[i] = daily;
+            value[i] = calories;
+            category[i] = goal[i];
+        }
+    }
+
+    private static byte band(double value, double[] thresholds) {
+        byte band = 0;
+        while (band < thresholds.length && value >= thresholds[band]) {
+            band++;
+        }
+        return band;
+    }
+}
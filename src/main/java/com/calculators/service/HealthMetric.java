@@ -0,0 +1,10 @@
+package com.calculators.service;
+
+/**
+ * Health calculations that can be run in bulk over a {@link HealthBatch}
+ */
+public enum HealthMetric {
+    BMI,
+    BODY_FAT,
+    CALORIE
+}
@@ -0,0 +1,62 @@
+package com.calculators.service;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Inputs for an investment projection with monthly contributions. Rates are annual
+ * percentages; the contribution increases by {@code contributionIncrease} each year
+ * and fees are an annual expense ratio deducted from the return.
+ */
+@Getter
+@Setter
+public class InvestmentInputs {
+    private double initialAmount = 10_000;
+    private double monthlyContribution = 500;
+    private double contributionIncrease;
+    private double annualReturn = 7;
+    private double expenseRatio;
+    private int years = 20;
+
+    /**
+     * A copy rounded to the precision the calculators display, which is what gets computed and cached
+     */
+    public InvestmentInputs normalized() {
+        InvestmentInputs copy = new InvestmentInputs();
+        copy.initialAmount = CacheKey.money(initialAmount);
+        copy.monthlyContribution = CacheKey.money(monthlyContribution);
+        copy.contributionIncrease = CacheKey.rate(contributionIncrease);
+        copy.annualReturn = CacheKey.rate(annualReturn);
+        copy.expenseRatio = CacheKey.rate(expenseRatio);
+        copy.years = years;
+        return copy;
+    }
+
+    /**
+     * Cache key of inputs that are already {@link #normalized()}
+     */
+    public CacheKey cacheKey() {
+        return CacheKey.builder(ResultCache.INVESTMENT, 6)
+                .money(initialAmount).money(monthlyContribution).rate(contributionIncrease)
+                .rate(annualReturn).rate(expenseRatio).count(years)
+                .build();
+    }
+
+    /**
+     * Reject inputs that cannot produce a meaningful projection
+     */
+    public void validate() {
+        if (!(initialAmount >= 0) || !(monthlyContribution >= 0) || initialAmount > 1_000_000_000) {
+            throw new IllegalArgumentException("Amounts must be between 0 and 1,000,000,000");
+        }
+        if (contributionIncrease < -100 || contributionIncrease > 100) {
+            throw new IllegalArgumentException("contributionIncrease must be between -100 and 100");
+        }
+        if (annualReturn <= -100 || annualReturn > 100 || expenseRatio < 0 || expenseRatio > 10) {
+            throw new IllegalArgumentException("annualReturn must be above -100 and expenseRatio between 0 and 10");
+        }
+        if (years < 1 || years > 100) {
+            throw new IllegalArgumentException("years must be between 1 and 100");
+        }
+    }
+}
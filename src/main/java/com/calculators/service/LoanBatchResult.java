@@ -0,0 +1,20 @@
+package com.calculators.service;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * Results of a batch evaluation in request order, plus a ranked summary.
+ * {@code ranking} lists scenario indexes from lowest to highest APR, ties broken by total cost.
+ */
+@Getter
+@AllArgsConstructor
+public class LoanBatchResult {
+    private final List<LoanResult> results;
+    private final int[] ranking;
+    private final int lowestApr;
+    private final int lowestPayment;
+    private final int lowestTotalCost;
+}
@@ -0,0 +1,69 @@
+package com.calculators.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.ToDoubleFunction;
+import java.util.stream.IntStream;
+
+/**
+ * Evaluates many loan offers in parallel on the shared compute pool
+ */
+@Service
+public class LoanBatchService {
+
+    private final ComputePool computePool;
+    private final int maxBatchSize;
+
+    public LoanBatchService(ComputePool computePool,
+                            @Value("${app.loan.max-batch-size:10000}") int maxBatchSize) {
+        this.computePool = computePool;
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    public LoanBatchResult evaluate(List<LoanScenario> scenarios) {
+        if (scenarios == null || scenarios.isEmpty()) {
+            throw new IllegalArgumentException("At least one scenario is required");
+        }
+        if (scenarios.size() > maxBatchSize) {
+            throw new IllegalArgumentException("A batch may contain at most " + maxBatchSize + " scenarios");
+        }
+        for (int i = 0; i < scenarios.size(); i++) {
+            if (scenarios.get(i) == null) {
+                throw new IllegalArgumentException("Scenario " + i + " is null");
+            }
+        }
+
+        LoanResult[] results = new LoanResult[scenarios.size()];
+        computePool.invoke(() -> {
+            IntStream.range(0, results.length)
+                    .parallel()
+                    .forEach(i -> results[i] = LoanCalculator.evaluate(i, scenarios.get(i)));
+            return null;
+        });
+
+        int[] ranking = IntStream.range(0, results.length)
+                .boxed()
+                .sorted(Comparator.<Integer>comparingDouble(i -> results[i].getApr())
+                        .thenComparingDouble(i -> results[i].getTotalCost()))
+                .mapToInt(Integer::intValue)
+                .toArray();
+
+        return new LoanBatchResult(Arrays.asList(results), ranking, ranking[0],
+                indexOfMin(results, LoanResult::getMonthlyPayment),
+                indexOfMin(results, LoanResult::getTotalCost));
+    }
+
+    private static int indexOfMin(LoanResult[] results, ToDoubleFunction<LoanResult> metric) {
+        int best = 0;
+        for (int i = 1; i < results.length; i++) {
+            if (metric.applyAsDouble(results[i]) < metric.applyAsDouble(results[best])) {
+                best = i;
+            }
+        }
+        return best;
+    }
+}
@@ -0,0 +1,77 @@
+package com.calculators.service;
+
+import java.math.RoundingMode;
+
+/**
+ * Payment, interest and APR math for fixed-rate installment loans.
+ * Payments and totals are exact cents, summed over the same schedule as {@link AmortizationSchedule}
+ * so the final payment absorbs the rounding; only the APR search runs in floating point.
+ */
+public final class LoanCalculator {
+
+    private static final int MAX_ITERATIONS = 100;
+    private static final double APR_TOLERANCE = 1e-10;
+
+    private LoanCalculator() {}
+
+    public static LoanResult evaluate(int index, LoanScenario scenario) {
+        scenario.validate();
+        int months = scenario.getTermMonths();
+        long amount = Money.ofDollars(scenario.getAmount());
+        long fees = Money.ofDollars(scenario.getFees());
+        long monthlyRate = Money.divide(Money.rateOfPercent(scenario.getInterestRate()), 12, RoundingMode.HALF_EVEN);
+        long payment = Money.annuityPayment(amount, monthlyRate, months, RoundingMode.HALF_UP);
+        MortgageSummary summary = new AmortizationSchedule(
+                new AmortizationTerms(amount, monthlyRate, months, payment, 0, 0, 0, 0, 0, 0, 0, 0)).summarize();
+        long totalInterest = Money.ofDollars(summary.getTotalInterest());
+        // Solve against the unrounded payment, so that without fees the APR is exactly the nominal rate
+        double rate = Money.rateToDouble(monthlyRate);
+        double levelPayment = rate == 0 ? Money.toDouble(amount) / months
+                : Money.toDouble(amount) * rate / (1 - Math.pow(1 + rate, -months));
+        double apr = apr(Money.toDouble(amount - fees), levelPayment, months, rate);
+        return new LoanResult(index, scenario.getName(), Money.toDouble(payment), Money.toDouble(totalInterest),
+                Money.toDouble(totalInterest + fees), Math.round(apr * 1_000_000) / 10_000.0);
+    }
+
+    /**
+     * Annual percentage rate: the nominal rate at which the payments repay the amount actually received.
+     * Solved with Newton's method, falling back to bisection if it fails to converge.
+     *
+     * @return APR as a fraction, e.g. 0.0725
+     */
+    public static double apr(double netAmount, double payment, int months, double initialMonthlyRate) {
+        if (payment * months <= netAmount) {
+            return 0;
+        }
+        double rate = Math.max(initialMonthlyRate, 1e-6);
+        for (int i = 0; i < MAX_ITERATIONS; i++) {
+            double growth = Math.pow(1 + rate, -months);
+            double value = payment * (1 - growth) / rate - netAmount;
+            double derivative = payment * (months * growth / (1 + rate) - (1 - growth) / rate) / rate;
+            double nextRate = rate - value / derivative;
+            if (!(nextRate > 0) || Double.isInfinite(nextRate)) {
+                break;
+            }
+            if (Math.abs(nextRate - rate) < APR_TOLERANCE) {
+                return nextRate * 12;
+            }
+            rate = nextRate;
+        }
+        return bisectApr(netAmount, payment, months) * 12;
+    }
+
+    private static double bisectApr(double netAmount, double payment, int months) {
+        double low = 0;
+        double high = 1;
+        for (int i = 0; i < 200 && high - low > APR_TOLERANCE; i++) {
+            double mid = (low + high) / 2;
+            double value = payment * (1 - Math.pow(1 + mid, -months)) / mid;
+            if (value > netAmount) {
+                low = mid;
+            } else {
+                high = mid;
+            }
+        }
+        return (low + high) / 2;
+    }
+}
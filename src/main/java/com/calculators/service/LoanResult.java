@@ -0,0 +1,23 @@
+package com.calculators.service;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Evaluated loan offer
+ */
+@Getter
+@AllArgsConstructor
+public class LoanResult implements CachedResult {
+    private final int index;
+    private final String name;
+    private final double monthlyPayment;
+    private final double totalInterest;
+    private final double totalCost;
+    private final double apr;
+
+    @Override
+    public int estimatedSize() {
+        return 64 + (name == null ? 0 : 40 + name.length());
+    }
+}
@@ -0,0 +1,58 @@
+package com.calculators.service;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * One loan offer to evaluate. Rates are annual percentages, fees are paid up front.
+ * Omitted inputs take the loan calculator's defaults.
+ */
+@Getter
+@Setter
+public class LoanScenario {
+    private String name;
+    private double amount = 20_000;
+    private double interestRate = 7;
+    private int termMonths = 60;
+    private double fees;
+
+    /**
+     * A copy rounded to the precision the calculators display, which is what gets computed
+     * and cached. Results are shared between callers, so the copy has no name.
+     */
+    public LoanScenario normalized() {
+        LoanScenario copy = new LoanScenario();
+        copy.amount = CacheKey.money(amount);
+        copy.interestRate = CacheKey.rate(interestRate);
+        copy.termMonths = termMonths;
+        copy.fees = CacheKey.money(fees);
+        return copy;
+    }
+
+    /**
+     * Cache key of a scenario that is already {@link #normalized()}
+     */
+    public CacheKey cacheKey() {
+        return CacheKey.builder(ResultCache.LOAN, 4)
+                .money(amount).rate(interestRate).count(termMonths).money(fees)
+                .build();
+    }
+
+    /**
+     * Reject offers that cannot be amortized
+     */
+    public void validate() {
+        if (!(amount > 0) || amount > 1_000_000_000) {
+            throw new IllegalArgumentException("amount must be between 0 and 1,000,000,000");
+        }
+        if (!(interestRate >= 0 && interestRate <= 100)) {
+            throw new IllegalArgumentException("interestRate must be between 0 and 100");
+        }
+        if (termMonths < 1 || termMonths > 600) {
+            throw new IllegalArgumentException("termMonths must be between 1 and 600");
+        }
+        if (!(fees >= 0 && fees < amount)) {
+            throw new IllegalArgumentException("fees must be at least 0 and less than amount");
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.calculators.service;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * A loan offer with optional extra payments, for the live schedule on the loan page.
+ * Extra payments go to principal; the yearly one is made every twelfth month.
+ */
+@Getter
+@Setter
+public class LoanScheduleInputs extends LoanScenario {
+    private double extraMonthly;
+    private double extraYearly;
+    private double extraOneTime;
+    private int extraOneTimeMonth;
+
+    @Override
+    public void validate() {
+        super.validate();
+        double max = MortgageInputs.MAX_AMOUNT;
+        if (!(extraMonthly >= 0 && extraMonthly <= max) || !(extraYearly >= 0 && extraYearly <= max)
+                || !(extraOneTime >= 0 && extraOneTime <= max)) {
+            throw new IllegalArgumentException("Extra payments must be between 0 and 1,000,000,000");
+        }
+    }
+}
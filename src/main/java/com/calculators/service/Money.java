@@ -0,0 +1,245 @@
+package com.calculators.service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Fixed-point money and rate arithmetic on primitive {@code long}s.
+ *
+ * Amounts are whole cents and rates are fractions scaled by {@link #RATE_ONE} (12 decimal
+ * places, so 6.5% a year is 65_000_000_000). Every operation is exact up to one explicit
+ * rounding step, in the same way as {@code BigDecimal.setScale}, but nothing is allocated.
+ * Products are formed in 128 bits before dividing, so {@code cents * rate} never loses
+ * precision. Results that do not fit in a long throw {@link ArithmeticException}.
+ *
+ * Values from request parameters are converted once with {@link #ofDollars(double)} and
+ * {@link #rateOfPercent(double)}, which round the decimal value of the double as typed.
+ */
+public final class Money {
+
+    public static final long CENTS_PER_DOLLAR = 100;
+    public static final int RATE_SCALE = 12;
+    public static final long RATE_ONE = 1_000_000_000_000L;
+
+    private static final long LOW_MASK = 0xFFFF_FFFFL;
+
+    private Money() {}
+
+    /**
+     * @return the amount in cents, rounded half-even
+     */
+    public static long ofDollars(double dollars) {
+        return decimal(dollars, 2);
+    }
+
+    public static double toDouble(long cents) {
+        return cents / (double) CENTS_PER_DOLLAR;
+    }
+
+    /**
+     * @return the amount as a plain decimal string such as "-1234.05"
+     */
+    public static String format(long cents) {
+        return BigDecimal.valueOf(cents, 2).toPlainString();
+    }
+
+    /**
+     * @return a percentage such as 6.5 as a rate, rounded half-even to 12 places
+     */
+    public static long rateOfPercent(double percent) {
+        return decimal(percent, RATE_SCALE - 2);
+    }
+
+    /**
+     * @return a fraction such as 0.065 as a rate, for rates that are themselves derived in floating point
+     */
+    public static long rateOf(double fraction) {
+        if (!(Math.abs(fraction) < Long.MAX_VALUE / (double) RATE_ONE)) {
+            throw new ArithmeticException("Rate out of range: " + fraction);
+        }
+        return Math.round(fraction * RATE_ONE);
+    }
+
+    public static double rateToDouble(long rate) {
+        return rate / (double) RATE_ONE;
+    }
+
+    public static long add(long a, long b) {
+        return Math.addExact(a, b);
+    }
+
+    public static long subtract(long a, long b) {
+        return Math.subtractExact(a, b);
+    }
+
+    public static long multiply(long cents, long count) {
+        return Math.multiplyExact(cents, count);
+    }
+
+    /**
+     * @return {@code cents * rate}, e.g. the interest on a balance, rounded to whole cents
+     */
+    public static long applyRate(long cents, long rate, RoundingMode mode) {
+        return mulDiv(cents, rate, RATE_ONE, mode);
+    }
+
+    /**
+     * @return the product of two rates, rounded half-even
+     */
+    public static long multiplyRates(long a, long b) {
+        return mulDiv(a, b, RATE_ONE, RoundingMode.HALF_EVEN);
+    }
+
+    /**
+     * @return the quotient of two rates, rounded half-even
+     */
+    public static long divideRates(long a, long b) {
+        return mulDiv(a, RATE_ONE, b, RoundingMode.HALF_EVEN);
+    }
+
+    /**
+     * @return {@code factor} raised to a non-negative power, by repeated squaring
+     */
+    public static long pow(long factor, int exponent) {
+        if (exponent < 0) {
+            throw new IllegalArgumentException("Negative exponent: " + exponent);
+        }
+        long result = RATE_ONE;
+        long base = factor;
+        for (int e = exponent; e > 0; e >>>= 1) {
+            if ((e & 1) != 0) {
+                result = multiplyRates(result, base);
+            }
+            if (e > 1) {
+                base = multiplyRates(base, base);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Level payment that repays {@code principal} over {@code periods} at {@code periodRate}:
+     * {@code principal * r / (1 - (1 + r)^-n)}. The discount factor is raised rather than the
+     * growth factor, so long terms at high rates cannot overflow.
+     */
+    public static long annuityPayment(long principal, long periodRate, int periods, RoundingMode mode) {
+        if (periodRate == 0) {
+            return divide(principal, periods, mode);
+        }
+        long discount = pow(divideRates(RATE_ONE, RATE_ONE + periodRate), periods);
+        long factor = mulDiv(periodRate, RATE_ONE, RATE_ONE - discount, RoundingMode.HALF_EVEN);
+        return applyRate(principal, factor, mode);
+    }
+
+    public static long divide(long value, long divisor, RoundingMode mode) {
+        return mulDiv(value, 1, divisor, mode);
+    }
+
+    /**
+     * {@code a * b / divisor} with the product held in 128 bits and a single rounding step
+     *
+     * @throws ArithmeticException if the result does not fit in a long, or rounding is
+     *                             {@link RoundingMode#UNNECESSARY} and the division is inexact
+     */
+    public static long mulDiv(long a, long b, long divisor, RoundingMode mode) {
+        if (divisor <= 0) {
+            throw new ArithmeticException(divisor == 0 ? "Division by zero" : "Negative divisor");
+        }
+        if (a == Long.MIN_VALUE || b == Long.MIN_VALUE) {
+            throw new ArithmeticException("Long overflow");
+        }
+        boolean negative = (a < 0) != (b < 0) && a != 0 && b != 0;
+        long x = Math.abs(a);
+        long y = Math.abs(b);
+        long high = Math.unsignedMultiplyHigh(x, y);
+        long low = x * y;
+
+        long quotient;
+        long remainder;
+        if (high == 0 && low >= 0) {
+            quotient = low / divisor;
+            remainder = low - quotient * divisor;
+        } else {
+            if (Long.compareUnsigned(high, divisor) >= 0) {
+                throw new ArithmeticException("Long overflow");
+            }
+            quotient = divide128(high, low, divisor);
+            remainder = low - quotient * divisor;
+            if (quotient < 0) {
+                throw new ArithmeticException("Long overflow");
+            }
+        }
+
+        if (remainder != 0 && roundsAway(quotient, remainder, divisor, negative, mode)) {
+            if (quotient == Long.MAX_VALUE) {
+                throw new ArithmeticException("Long overflow");
+            }
+            quotient++;
+        }
+        return negative ? -quotient : quotient;
+    }
+
+    /**
+     * Whether a truncated magnitude must be incremented, given a non-zero remainder
+     */
+    private static boolean roundsAway(long quotient, long remainder, long divisor, boolean negative,
+                                      RoundingMode mode) {
+        long rest = divisor - remainder;
+        return switch (mode) {
+            case UP -> true;
+            case DOWN -> false;
+            case CEILING -> !negative;
+            case FLOOR -> negative;
+            case HALF_UP -> remainder >= rest;
+            case HALF_DOWN -> remainder > rest;
+            case HALF_EVEN -> remainder > rest || (remainder == rest && (quotient & 1) != 0);
+            case UNNECESSARY -> throw new ArithmeticException("Rounding necessary");
+        };
+    }
+
+    /**
+     * Unsigned 128 by 64 bit division of {@code high:low} by {@code divisor}, where
+     * {@code high < divisor} so the quotient fits in 64 bits (Hacker's Delight, divlu)
+     */
+    private static long divide128(long high, long low, long divisor) {
+        int shift = Long.numberOfLeadingZeros(divisor);
+        long v = divisor << shift;
+        long v1 = v >>> 32;
+        long v0 = v & LOW_MASK;
+        long u32 = shift == 0 ? high : (high << shift) | (low >>> (64 - shift));
+        long u10 = low << shift;
+        long u1 = u10 >>> 32;
+        long u0 = u10 & LOW_MASK;
+
+        long q1 = Long.divideUnsigned(u32, v1);
+        long rhat = u32 - q1 * v1;
+        while (Long.compareUnsigned(q1, 1L << 32) >= 0
+                || Long.compareUnsigned(q1 * v0, (rhat << 32) | u1) > 0) {
+            q1--;
+            rhat += v1;
+            if (Long.compareUnsigned(rhat, 1L << 32) >= 0) {
+                break;
+            }
+        }
+
+        long u21 = (u32 << 32) + u1 - q1 * v;
+        long q0 = Long.divideUnsigned(u21, v1);
+        rhat = u21 - q0 * v1;
+        while (Long.compareUnsigned(q0, 1L << 32) >= 0
+                || Long.compareUnsigned(q0 * v0, (rhat << 32) | u0) > 0) {
+            q0--;
+            rhat += v1;
+            if (Long.compareUnsigned(rhat, 1L << 32) >= 0) {
+                break;
+            }
+        }
+        return (q1 << 32) + q0;
+    }
+
+    private static long decimal(double value, int scale) {
+        if (!Double.isFinite(value)) {
+            throw new ArithmeticException("Not a finite amount: " + value);
+        }
+        return BigDecimal.valueOf(value).setScale(scale, RoundingMode.HALF_EVEN).unscaledValue().longValueExact();
+    }
+}
@@ -0,0 +1,22 @@
+package com.calculators.service;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Monthly principal and interest payment and total interest for every combination of
+ * rate, term and down payment, in whole cents.
+ *
+ * Cells are stored in columns, rate fastest: the cell for {@code rates[r]},
+ * {@code termYears[t]} and {@code downPayments[d]} is at
+ * {@code (d * termYears.length + t) * rates.length + r}.
+ */
+@Getter
+@AllArgsConstructor
+public class MortgageGrid {
+    private final double[] rates;
+    private final int[] termYears;
+    private final double[] downPayments;
+    private final long[] paymentCents;
+    private final long[] totalInterestCents;
+}
@@ -0,0 +1,68 @@
+package com.calculators.service;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Axes of a mortgage sensitivity grid, bound from request parameters.
+ * Rates are annual percentages stepped from {@code minRate} to {@code maxRate}, terms are
+ * whole years, and {@code downPayments} is a comma-separated list of dollar amounts.
+ */
+@Getter
+@Setter
+public class MortgageGridInputs {
+
+    public static final int MAX_RATES = 1_000;
+    public static final int MAX_DOWN_PAYMENTS = 10;
+    public static final int MAX_CELLS = 500_000;
+
+    private double homePrice = 400_000;
+    private double[] downPayments = {80_000};
+    private double minRate = 3;
+    private double maxRate = 9;
+    private double rateStep = 0.125;
+    private int minTermYears = 10;
+    private int maxTermYears = 30;
+
+    /**
+     * Number of rates on the axis, capped at {@code MAX_RATES + 1} so that a tiny step
+     * cannot overflow the count and slip past {@link #validate()}
+     */
+    public int getRateCount() {
+        double steps = Math.floor((maxRate - minRate) / rateStep + 1e-9);
+        return (int) Math.min(steps, MAX_RATES) + 1;
+    }
+
+    public int getTermCount() {
+        return maxTermYears - minTermYears + 1;
+    }
+
+    /**
+     * Reject axes that are out of range or would make the grid too large
+     */
+    public void validate() {
+        if (!(homePrice > 0) || homePrice > 1_000_000_000) {
+            throw new IllegalArgumentException("homePrice must be between 0 and 1,000,000,000");
+        }
+        if (downPayments == null || downPayments.length == 0 || downPayments.length > MAX_DOWN_PAYMENTS) {
+            throw new IllegalArgumentException("downPayments must list between 1 and " + MAX_DOWN_PAYMENTS + " amounts");
+        }
+        for (double downPayment : downPayments) {
+            if (!(downPayment >= 0) || downPayment >= homePrice) {
+                throw new IllegalArgumentException("Each down payment must be at least 0 and less than homePrice");
+            }
+        }
+        if (!(minRate >= 0) || !(maxRate >= minRate) || maxRate > 50) {
+            throw new IllegalArgumentException("Rates must satisfy 0 <= minRate <= maxRate <= 50");
+        }
+        if (!(rateStep > 0) || getRateCount() > MAX_RATES) {
+            throw new IllegalArgumentException("rateStep must be positive and give at most " + MAX_RATES + " rates");
+        }
+        if (minTermYears < 1 || maxTermYears < minTermYears || maxTermYears > 50) {
+            throw new IllegalArgumentException("Terms must satisfy 1 <= minTermYears <= maxTermYears <= 50");
+        }
+        if ((long) getRateCount() * getTermCount() * downPayments.length > MAX_CELLS) {
+            throw new IllegalArgumentException("The grid may have at most " + MAX_CELLS + " cells");
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.calculators.service;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Inputs for a mortgage amortization schedule, bound from request parameters.
+ * Rates are annual percentages, money values are in dollars.
+ */
+@Getter
+@Setter
+public class MortgageInputs {
+
+    /** Upper bound for any dollar amount, which keeps every schedule total well inside a long of cents */
+    public static final double MAX_AMOUNT = 1_000_000_000;
+
+    private double homePrice = 400_000;
+    private double downPayment = 80_000;
+    private double interestRate = 6.5;
+    private int termYears = 30;
+    private double propertyTaxRate = 1.2;
+    private double annualInsurance = 1_500;
+    private double pmiRate = 0.5;
+    private double extraMonthly;
+    private double extraYearly;
+    private double extraOneTime;
+    private int extraOneTimeMonth;
+
+    public double getLoanAmount() {
+        return homePrice - downPayment;
+    }
+
+    public int getTermMonths() {
+        return termYears * 12;
+    }
+
+    /**
+     * A copy rounded to the precision the calculators display, which is what gets computed and cached
+     */
+    public MortgageInputs normalized() {
+        MortgageInputs copy = new MortgageInputs();
+        copy.homePrice = CacheKey.money(homePrice);
+        copy.downPayment = CacheKey.money(downPayment);
+        copy.interestRate = CacheKey.rate(interestRate);
+        copy.termYears = termYears;
+        copy.propertyTaxRate = CacheKey.rate(propertyTaxRate);
+        copy.annualInsurance = CacheKey.money(annualInsurance);
+        copy.pmiRate = CacheKey.rate(pmiRate);
+        copy.extraMonthly = CacheKey.money(extraMonthly);
+        copy.extraYearly = CacheKey.money(extraYearly);
+        copy.extraOneTime = CacheKey.money(extraOneTime);
+        copy.extraOneTimeMonth = extraOneTimeMonth;
+        return copy;
+    }
+
+    /**
+     * Cache key of inputs that are already {@link #normalized()}
+     */
+    public CacheKey cacheKey() {
+        return CacheKey.builder(ResultCache.MORTGAGE, 11)
+                .money(homePrice).money(downPayment).rate(interestRate).count(termYears)
+                .rate(propertyTaxRate).money(annualInsurance).rate(pmiRate)
+                .money(extraMonthly).money(extraYearly).money(extraOneTime).count(extraOneTimeMonth)
+                .build();
+    }
+
+    /**
+     * Reject inputs that cannot produce a meaningful schedule
+     */
+    public void validate() {
+        if (!(homePrice > 0 && homePrice <= MAX_AMOUNT)) {
+            throw new IllegalArgumentException("homePrice must be between 0 and 1,000,000,000");
+        }
+        if (!(downPayment >= 0 && downPayment < homePrice)) {
+            throw new IllegalArgumentException("downPayment must be at least 0 and less than homePrice");
+        }
+        if (!(interestRate >= 0 && interestRate <= 50)) {
+            throw new IllegalArgumentException("interestRate must be between 0 and 50");
+        }
+        if (termYears < 1 || termYears > 50) {
+            throw new IllegalArgumentException("termYears must be between 1 and 50");
+        }
+        if (!(propertyTaxRate >= 0 && propertyTaxRate <= 100) || !(pmiRate >= 0 && pmiRate <= 100)) {
+            throw new IllegalArgumentException("propertyTaxRate and pmiRate must be between 0 and 100");
+        }
+        if (!(annualInsurance >= 0 && annualInsurance <= MAX_AMOUNT)) {
+            throw new IllegalArgumentException("annualInsurance must be between 0 and 1,000,000,000");
+        }
+        if (!(extraMonthly >= 0 && extraMonthly <= MAX_AMOUNT) || !(extraYearly >= 0 && extraYearly <= MAX_AMOUNT)
+                || !(extraOneTime >= 0 && extraOneTime <= MAX_AMOUNT)) {
+            throw new IllegalArgumentException("Extra payments must be between 0 and 1,000,000,000");
+        }
+        if (extraOneTimeMonth < 0 || extraOneTimeMonth > getTermMonths()) {
+            throw new IllegalArgumentException("extraOneTimeMonth must be between 0 (none) and the last month of the term");
+        }
+    }
+}
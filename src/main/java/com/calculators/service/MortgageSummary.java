@@ -0,0 +1,26 @@
+package com.calculators.service;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Totals over the life of a mortgage
+ */
+@Getter
+@AllArgsConstructor
+public class MortgageSummary implements CachedResult {
+    private final double loanAmount;
+    /** Scheduled principal and interest */
+    private final double monthlyPayment;
+    /** Principal, interest, escrow and PMI in the first month */
+    private final double totalMonthlyPayment;
+    private final int payoffMonths;
+    private final double totalInterest;
+    private final double totalPmi;
+    private final double totalPaid;
+
+    @Override
+    public int estimatedSize() {
+        return 72;
+    }
+}
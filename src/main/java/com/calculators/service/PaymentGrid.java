@@ -0,0 +1,136 @@
+package com.calculators.service;
+
+/**
+ * Computes a {@link MortgageGrid} over primitive arrays.
+ *
+ * The annuity factor {@code r / (1 - (1 + r)^-n)} only depends on rate and term, so it is
+ * computed once per rate and term and scaled by each loan amount straight away, without an
+ * intermediate array. Within a rate, successive terms multiply the discount by one year's
+ * worth, {@code (1 + r)^-12}, instead of calling {@code Math.pow}, and amounts are rounded
+ * to whole cents, half up like {@link Money}, by adding and subtracting a constant, which
+ * leaves nothing but multiplies, two divides per rate and term, adds and compares.
+ *
+ * Those run on the {@code jdk.incubator.vector} API, several rates per instruction, when
+ * the JVM was started with {@code --add-modules jdk.incubator.vector}; otherwise the same
+ * arithmetic runs one rate at a time. Both paths perform the same IEEE operations in the
+ * same order, so they give identical results.
+ *
+ * As in {@link AmortizationSchedule}, the final payment settles whatever rounding the
+ * payment leaves behind: paying {@code d} too much each month overpays by
+ * {@code d * ((1 + r)^n - 1) / r}, and that accumulation factor is
+ * {@code 1 / (discount * factor)}, so total interest costs one more multiply per cell.
+ * Payments match the schedule's; total interest usually comes within cents of it, but the
+ * schedule also rounds every month's interest, which compounds to dollars over long,
+ * high-rate terms.
+ *
+ * The grid is for comparing scenarios at a glance and is computed in doubles, rounded to
+ * the cent; the exact schedule of any one cell comes from {@link AmortizationSchedule}.
+ */
+public final class PaymentGrid {
+
+    /** Whether grids are computed with the Vector API */
+    public static final boolean VECTORIZED = vectorModulePresent() && PaymentGridVectors.isUseful();
+
+    /** Adding and subtracting 1.5 * 2^52 rounds any |x| < 2^51 to an integer, ties to even */
+    static final double ROUNDING_BIAS = 0x1.8p52;
+
+    private static final double RATE_PRECISION = 1e6;
+
+    private PaymentGrid() {}
+
+    public static MortgageGrid compute(MortgageGridInputs inputs) {
+        return compute(inputs, VECTORIZED);
+    }
+
+    /**
+     * @param vectorized use the Vector API; ignored when it is not available
+     */
+    public static MortgageGrid compute(MortgageGridInputs inputs, boolean vectorized) {
+        inputs.validate();
+        boolean simd = vectorized && VECTORIZED;
+        int rateCount = inputs.getRateCount();
+        int termCount = inputs.getTermCount();
+        double[] downPayments = inputs.getDownPayments().clone();
+
+        double[] rates = new double[rateCount];
+        double[] monthlyRates = new double[rateCount];
+        for (int i = 0; i < rateCount; i++) {
+            rates[i] = Math.round((inputs.getMinRate() + i * inputs.getRateStep()) * RATE_PRECISION) / RATE_PRECISION;
+            monthlyRates[i] = rates[i] / 1200;
+        }
+        int[] termYears = new int[termCount];
+        for (int t = 0; t < termCount; t++) {
+            termYears[t] = inputs.getMinTermYears() + t;
+        }
+
+        double[] principals = new double[downPayments.length];
+        for (int d = 0; d < downPayments.length; d++) {
+            principals[d] = inputs.getHomePrice() - downPayments[d];
+        }
+        int cells = rateCount * termCount * downPayments.length;
+        long[] payment = new long[cells];
+        long[] totalInterest = new long[cells];
+        if (simd) {
+            PaymentGridVectors.fill(monthlyRates, inputs.getMinTermYears(), inputs.getMaxTermYears(), principals,
+                    payment, totalInterest);
+        } else {
+            fill(monthlyRates, 0, inputs.getMinTermYears(), inputs.getMaxTermYears(), principals, payment, totalInterest);
+        }
+        return new MortgageGrid(rates, termYears, downPayments, payment, totalInterest);
+    }
+
+    /**
+     * Fill the cells of the monthly rates from index {@code from} on, for every term from
+     * {@code minYears} to {@code maxYears} and every principal, in {@link MortgageGrid} order
+     */
+    static void fill(double[] monthlyRates, int from, int minYears, int maxYears, double[] principals,
+                     long[] payment, long[] totalInterest) {
+        int rates = monthlyRates.length;
+        int plane = rates * (maxYears - minYears + 1);
+        for (int i = from; i < rates; i++) {
+            double rate = monthlyRates[i];
+            double yearDiscount = yearDiscount(rate);
+            double discount = 1;
+            for (int year = 1; year <= maxYears; year++) {
+                discount *= yearDiscount;
+                if (year < minYears) {
+                    continue;
+                }
+                double factor = rate == 0 ? 1.0 / (12 * year) : rate / (1 - discount);
+                double accumulation = 1 / (discount * factor);
+                double months = 12.0 * year;
+                int cell = (year - minYears) * rates + i;
+                for (int d = 0; d < principals.length; d++) {
+                    double exact = principals[d] * factor * 100;
+                    double monthlyCents = round(exact);
+                    double interest = monthlyCents * months - principals[d] * 100 - (monthlyCents - exact) * accumulation;
+                    payment[d * plane + cell] = (long) monthlyCents;
+                    totalInterest[d * plane + cell] = (long) round(Math.max(interest, 0));
+                }
+            }
+        }
+    }
+
+    /**
+     * {@code (1 + rate)^-12} by squaring, in the same steps as the vector version
+     */
+    static double yearDiscount(double rate) {
+        double month = 1 / (1 + rate);
+        double two = month * month;
+        double four = two * two;
+        return four * four * four;
+    }
+
+    /**
+     * The nearest integer, ties up like {@link Money} rounds positive amounts, with the same
+     * operations as the vector version
+     */
+    private static double round(double value) {
+        double even = value + ROUNDING_BIAS - ROUNDING_BIAS;
+        return value - even == 0.5 ? even + 1 : even;
+    }
+
+    private static boolean vectorModulePresent() {
+        return ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent();
+    }
+}
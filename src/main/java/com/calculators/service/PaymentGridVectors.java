@@ -0,0 +1,73 @@
+package com.calculators.service;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Vector API versions of the {@link PaymentGrid} kernels, one rate per lane.
+ *
+ * Only {@link PaymentGrid} touches this class, and only once it has found the
+ * {@code jdk.incubator.vector} module, so the JVM never loads it without the module.
+ * Remainder lanes fall back to the scalar kernels.
+ */
+final class PaymentGridVectors {
+
+    private static final VectorSpecies<Double> SPECIES = DoubleVector.SPECIES_PREFERRED;
+
+    private PaymentGridVectors() {}
+
+    /**
+     * @return whether the CPU has more than one double lane, so vectors can beat scalar code
+     */
+    static boolean isUseful() {
+        return SPECIES.length() > 1;
+    }
+
+    static void fill(double[] monthlyRates, int minYears, int maxYears, double[] principals,
+                     long[] payment, long[] totalInterest) {
+        int rates = monthlyRates.length;
+        int plane = rates * (maxYears - minYears + 1);
+        int bound = SPECIES.loopBound(rates);
+        DoubleVector one = DoubleVector.broadcast(SPECIES, 1);
+        for (int i = 0; i < bound; i += SPECIES.length()) {
+            DoubleVector rate = DoubleVector.fromArray(SPECIES, monthlyRates, i);
+            VectorMask<Double> zero = rate.compare(VectorOperators.EQ, 0);
+            DoubleVector month = one.div(rate.add(1));
+            DoubleVector two = month.mul(month);
+            DoubleVector four = two.mul(two);
+            DoubleVector yearDiscount = four.mul(four).mul(four);
+            DoubleVector discount = one;
+            for (int year = 1; year <= maxYears; year++) {
+                discount = discount.mul(yearDiscount);
+                if (year < minYears) {
+                    continue;
+                }
+                DoubleVector factor = rate.div(one.sub(discount)).blend(1.0 / (12 * year), zero);
+                DoubleVector accumulation = one.div(discount.mul(factor));
+                double months = 12.0 * year;
+                int cell = (year - minYears) * rates + i;
+                for (int d = 0; d < principals.length; d++) {
+                    DoubleVector exact = factor.mul(principals[d]).mul(100);
+                    DoubleVector monthlyCents = round(exact);
+                    DoubleVector interest = monthlyCents.mul(months).sub(principals[d] * 100)
+                            .sub(monthlyCents.sub(exact).mul(accumulation));
+                    toLongs(monthlyCents).intoArray(payment, d * plane + cell);
+                    toLongs(round(interest.max(0))).intoArray(totalInterest, d * plane + cell);
+                }
+            }
+        }
+        PaymentGrid.fill(monthlyRates, bound, minYears, maxYears, principals, payment, totalInterest);
+    }
+
+    private static DoubleVector round(DoubleVector value) {
+        DoubleVector even = value.add(PaymentGrid.ROUNDING_BIAS).sub(PaymentGrid.ROUNDING_BIAS);
+        return even.add(1, value.sub(even).compare(VectorOperators.EQ, 0.5));
+    }
+
+    private static LongVector toLongs(DoubleVector value) {
+        return (LongVector) value.convert(VectorOperators.D2L, 0);
+    }
+}
@@ -0,0 +1,232 @@
+package com.calculators.service;
+
+import com.calculators.config.InputField;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Packs calculator inputs into short URL-safe tokens and back.
+ *
+ * A token is a version byte, a varint bitmask of the fields that differ from their
+ * defaults, and then one zigzag varint per such field (choices as option index, text
+ * as length-prefixed ASCII), all base64url encoded without padding. Nothing is stored
+ * on the server, so any node can decode any token.
+ */
+public final class PermalinkCodec {
+
+    private static final int VERSION = 1;
+    private static final int MAX_TOKEN_LENGTH = 512;
+    private static final int MAX_TEXT_LENGTH = 32;
+
+    private PermalinkCodec() {}
+
+    /**
+     * @param values input values by field name, as numbers or strings; missing fields use their defaults
+     * @throws IllegalArgumentException if a value does not fit its field
+     */
+    public static String encode(List<InputField> fields, Map<String, ?> values) {
+        if (fields.size() > 63) {
+            throw new IllegalArgumentException("Too many inputs for a permalink");
+        }
+        long mask = 0;
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        for (int i = 0; i < fields.size(); i++) {
+            InputField field = fields.get(i);
+            Object value = values.get(field.getName());
+            if (value == null) {
+                continue;
+            }
+            switch (field.getKind()) {
+                case CHOICE -> {
+                    int index = indexOfOption(field, value.toString());
+                    if (index != 0) {
+                        mask |= 1L << i;
+                        writeVarint(body, index);
+                    }
+                }
+                case TEXT -> {
+                    String text = value.toString().trim();
+                    if (!text.equals(field.getDefaultValue())) {
+                        byte[] bytes = checkText(field, text).getBytes(StandardCharsets.US_ASCII);
+                        mask |= 1L << i;
+                        writeVarint(body, bytes.length);
+                        body.writeBytes(bytes);
+                    }
+                }
+                default -> {
+                    long quantized = quantize(field, toDouble(field, value));
+                    if (quantized != quantize(field, ((Number) field.getDefaultValue()).doubleValue())) {
+                        mask |= 1L << i;
+                        writeVarint(body, quantized << 1 ^ quantized >> 63);
+                    }
+                }
+            }
+        }
+
+        ByteArrayOutputStream token = new ByteArrayOutputStream(body.size() + 10);
+        token.write(VERSION);
+        writeVarint(token, mask);
+        token.writeBytes(body.toByteArray());
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(token.toByteArray());
+    }
+
+    /**
+     * @return every field's value, numbers as Double or Integer and choices as the option text
+     * @throws IllegalArgumentException if the token is malformed
+     */
+    public static Map<String, Object> decode(List<InputField> fields, String token) {
+        if (token.length() > MAX_TOKEN_LENGTH) {
+            throw new IllegalArgumentException("Permalink token is too long");
+        }
+        Reader reader = new Reader(Base64.getUrlDecoder().decode(token));
+        if (reader.readVarint() != VERSION) {
+            throw new IllegalArgumentException("Unsupported permalink version");
+        }
+        long mask = reader.readVarint();
+        if (fields.size() < 64 && mask >>> fields.size() != 0) {
+            throw new IllegalArgumentException("Permalink has unknown inputs");
+        }
+
+        Map<String, Object> values = new LinkedHashMap<>();
+        for (int i = 0; i < fields.size(); i++) {
+            InputField field = fields.get(i);
+            boolean present = (mask & 1L << i) != 0;
+            values.put(field.getName(), present ? read(field, reader) : field.getDefaultValue());
+        }
+        if (reader.position != reader.bytes.length) {
+            throw new IllegalArgumentException("Permalink has trailing data");
+        }
+        return values;
+    }
+
+    /**
+     * @return every field's default value
+     */
+    public static Map<String, Object> defaults(List<InputField> fields) {
+        Map<String, Object> values = new LinkedHashMap<>();
+        for (InputField field : fields) {
+            values.put(field.getName(), field.getDefaultValue());
+        }
+        return values;
+    }
+
+    private static Object read(InputField field, Reader reader) {
+        return switch (field.getKind()) {
+            case CHOICE -> {
+                long index = reader.readVarint();
+                if (index >= field.getOptions().size()) {
+                    throw new IllegalArgumentException("Unknown option for " + field.getName());
+                }
+                yield field.getOptions().get((int) index);
+            }
+            case TEXT -> {
+                long length = reader.readVarint();
+                if (length > MAX_TEXT_LENGTH) {
+                    throw new IllegalArgumentException("Text too long for " + field.getName());
+                }
+                yield checkText(field, new String(reader.readBytes((int) length), StandardCharsets.US_ASCII));
+            }
+            case INTEGER -> {
+                long value = unzigzag(reader.readVarint());
+                if (value != (int) value) {
+                    throw new IllegalArgumentException("Value out of range for " + field.getName());
+                }
+                yield (int) value;
+            }
+            default -> (double) unzigzag(reader.readVarint()) / field.getKind().getScale();
+        };
+    }
+
+    private static long quantize(InputField field, double value) {
+        double scaled = value * field.getKind().getScale();
+        if (!(Math.abs(scaled) < 1e15)) {
+            throw new IllegalArgumentException("Value out of range for " + field.getName());
+        }
+        return Math.round(scaled);
+    }
+
+    private static double toDouble(InputField field, Object value) {
+        if (value instanceof Number number) {
+            return number.doubleValue();
+        }
+        try {
+            return Double.parseDouble(value.toString().trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(field.getName() + " must be a number");
+        }
+    }
+
+    private static int indexOfOption(InputField field, String value) {
+        List<String> options = field.getOptions();
+        for (int i = 0; i < options.size(); i++) {
+            if (options.get(i).equalsIgnoreCase(value.trim())) {
+                return i;
+            }
+        }
+        throw new IllegalArgumentException(field.getName() + " must be one of " + options);
+    }
+
+    private static String checkText(InputField field, String text) {
+        if (text.length() > MAX_TEXT_LENGTH) {
+            throw new IllegalArgumentException(field.getName() + " is too long");
+        }
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (!(c >= 'a' && c <= 'z' || c >= 'A' && c <= 'Z' || c >= '0' && c <= '9' || c == '-' || c == '_' || c == '.')) {
+                throw new IllegalArgumentException(field.getName() + " contains unsupported characters");
+            }
+        }
+        return text;
+    }
+
+    private static void writeVarint(ByteArrayOutputStream out, long value) {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) (value & 0x7F | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+
+    private static long unzigzag(long value) {
+        return value >>> 1 ^ -(value & 1);
+    }
+
+    private static final class Reader {
+        private final byte[] bytes;
+        private int position;
+
+        Reader(byte[] bytes) {
+            this.bytes = bytes;
+        }
+
+        long readVarint() {
+            long value = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                if (position >= bytes.length) {
+                    throw new IllegalArgumentException("Permalink is truncated");
+                }
+                byte b = bytes[position++];
+                value |= (long) (b & 0x7F) << shift;
+                if (b >= 0) {
+                    return value;
+                }
+            }
+            throw new IllegalArgumentException("Malformed permalink");
+        }
+
+        byte[] readBytes(int length) {
+            if (position + length > bytes.length) {
+                throw new IllegalArgumentException("Permalink is truncated");
+            }
+            byte[] result = new byte[length];
+            System.arraycopy(bytes, position, result, 0, length);
+            position += length;
+            return result;
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.calculators.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Shared cache of calculation results keyed by normalized inputs.
+ *
+ * Caffeine's W-TinyLFU policy keeps popular inputs resident under a memory budget
+ * rather than an entry count. A miss computes atomically per key, so concurrent
+ * requests for the same inputs wait for one computation instead of repeating it.
+ */
+@Component
+public class ResultCache {
+
+    /** Rough per-entry overhead of the cache's own node and table slot */
+    private static final int ENTRY_OVERHEAD = 96;
+
+    public static final int MORTGAGE = 1;
+    public static final int LOAN = 2;
+    public static final int INVESTMENT = 3;
+    public static final int COMPOUND_INTEREST = 4;
+
+    private final Cache<CacheKey, CachedResult> cache;
+    private final long maximumBytes;
+
+    public ResultCache(@Value("${app.result-cache.max-size:64MB}") DataSize maxSize, MeterRegistry meterRegistry) {
+        this.maximumBytes = maxSize.toBytes();
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maximumBytes)
+                .weigher((CacheKey key, CachedResult value) -> ENTRY_OVERHEAD + key.estimatedSize() + value.estimatedSize())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "results");
+    }
+
+    /**
+     * Return the cached result for {@code key}, computing it with {@code calculation} on a miss
+     */
+    @SuppressWarnings("unchecked")
+    public <T extends CachedResult> T get(CacheKey key, Supplier<T> calculation) {
+        return (T) cache.get(key, k -> calculation.get());
+    }
+
+    public Cache<CacheKey, CachedResult> getCache() {
+        return cache;
+    }
+
+    public Map<String, Object> getStatistics() {
+        CacheStats stats = cache.stats();
+        Map<String, Object> statistics = new LinkedHashMap<>();
+        statistics.put("entries", cache.estimatedSize());
+        statistics.put("weightedBytes", cache.policy().eviction().map(e -> e.weightedSize().orElse(0)).orElse(0L));
+        statistics.put("maximumBytes", maximumBytes);
+        statistics.put("requests", stats.requestCount());
+        statistics.put("hits", stats.hitCount());
+        statistics.put("misses", stats.missCount());
+        statistics.put("hitRate", stats.hitRate());
+        statistics.put("evictions", stats.evictionCount());
+        statistics.put("evictedBytes", stats.evictionWeight());
+        statistics.put("averageLoadNanos", Math.round(stats.averageLoadPenalty()));
+        return statistics;
+    }
+
+    public void clear() {
+        cache.invalidateAll();
+    }
+}
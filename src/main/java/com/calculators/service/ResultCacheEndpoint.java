@@ -0,0 +1,26 @@
+package com.calculators.service;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * Actuator endpoint exposing result cache hit rate, evictions and memory use
+ */
+@Component
+@Endpoint(id = "resultcache")
+public class ResultCacheEndpoint {
+
+    private final ResultCache resultCache;
+
+    public ResultCacheEndpoint(ResultCache resultCache) {
+        this.resultCache = resultCache;
+    }
+
+    @ReadOperation
+    public Map<String, Object> statistics() {
+        return resultCache.getStatistics();
+    }
+}
@@ -0,0 +1,65 @@
+package com.calculators.service;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Inputs for a retirement projection, bound from request parameters.
+ * Rates are annual percentages; contributions and withdrawals are yearly amounts,
+ * with withdrawals given in today's dollars.
+ */
+@Getter
+@Setter
+public class RetirementInputs {
+    private int currentAge = 35;
+    private int retirementAge = 65;
+    private int lifeExpectancy = 90;
+    private double currentSavings = 50_000;
+    private double annualContribution = 12_000;
+    private double contributionGrowth = 2;
+    private double annualWithdrawal = 60_000;
+    private double inflationRate = 2.5;
+    private double expectedReturn = 7;
+    private double volatility = 15;
+    private int paths = 10_000;
+    /** Fixed seed for reproducible runs; random when not set */
+    private Long seed;
+
+    public int getYears() {
+        return lifeExpectancy - currentAge;
+    }
+
+    public int getAccumulationYears() {
+        return retirementAge - currentAge;
+    }
+
+    /**
+     * Reject inputs that cannot produce a meaningful simulation
+     */
+    public void validate() {
+        if (currentAge < 0 || currentAge >= retirementAge || retirementAge > lifeExpectancy || lifeExpectancy > 120) {
+            throw new IllegalArgumentException("Ages must satisfy currentAge < retirementAge <= lifeExpectancy <= 120");
+        }
+        if (!(currentSavings >= 0) || currentSavings > 1_000_000_000) {
+            throw new IllegalArgumentException("currentSavings must be between 0 and 1,000,000,000");
+        }
+        if (!(annualContribution >= 0) || !(annualWithdrawal >= 0)) {
+            throw new IllegalArgumentException("Contributions and withdrawals cannot be negative");
+        }
+        if (!(contributionGrowth >= -50 && contributionGrowth <= 50)) {
+            throw new IllegalArgumentException("contributionGrowth must be between -50 and 50");
+        }
+        if (!(inflationRate >= -10 && inflationRate <= 50)) {
+            throw new IllegalArgumentException("inflationRate must be between -10 and 50");
+        }
+        if (!(expectedReturn > -100 && expectedReturn <= 100)) {
+            throw new IllegalArgumentException("expectedReturn must be above -100 and at most 100");
+        }
+        if (!(volatility >= 0 && volatility <= 100)) {
+            throw new IllegalArgumentException("volatility must be between 0 and 100");
+        }
+        if (paths < 100 || paths > 200_000) {
+            throw new IllegalArgumentException("paths must be between 100 and 200,000");
+        }
+    }
+}
@@ -0,0 +1,200 @@
+package com.calculators.service;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Monte Carlo engine for retirement balances.
+ *
+ * Yearly returns are lognormal with the requested mean and volatility. Paths are not
+ * kept: each fork-join leaf simulates its share of paths with its own split of the
+ * random generator and folds every yearly balance into a log-scale histogram borrowed
+ * from a small pool, so there is at most one histogram per worker thread. Percentiles
+ * are read from the merged histograms, so memory depends only on the number of years.
+ */
+public class RetirementSimulation {
+
+    /** Histogram covers $1 to $100B in today's dollars at about 2.5% resolution */
+    private static final int BUCKETS = 1024;
+    private static final double MAX_LOG = Math.log(1e11);
+    private static final double BUCKETS_PER_LOG = BUCKETS / MAX_LOG;
+    /** Paths per fork-join leaf; fixed so seeded runs give the same result on any machine */
+    private static final int LEAF_PATHS = 128;
+
+    private final int totalPaths;
+    private final int years;
+    private final int currentAge;
+    private final double startBalance;
+    private final double logMean;
+    private final double logVolatility;
+    /** Nominal contribution (positive) or withdrawal (negative) applied at the end of each year */
+    private final double[] cashFlow;
+    /** Log of the factor that converts a nominal balance in each year to today's dollars */
+    private final double[] logDeflator;
+
+    private final ConcurrentLinkedQueue<Histogram> histograms = new ConcurrentLinkedQueue<>();
+    private int completedPaths;
+
+    public RetirementSimulation(RetirementInputs inputs) {
+        inputs.validate();
+        this.totalPaths = inputs.getPaths();
+        this.years = inputs.getYears();
+        this.currentAge = inputs.getCurrentAge();
+        this.startBalance = inputs.getCurrentSavings();
+
+        double mean = 1 + inputs.getExpectedReturn() / 100;
+        double deviation = inputs.getVolatility() / 100;
+        double logVariance = Math.log(1 + deviation * deviation / (mean * mean));
+        this.logMean = Math.log(mean) - logVariance / 2;
+        this.logVolatility = Math.sqrt(logVariance);
+
+        double inflation = 1 + inputs.getInflationRate() / 100;
+        double growth = 1 + inputs.getContributionGrowth() / 100;
+        this.cashFlow = new double[years + 1];
+        this.logDeflator = new double[years + 1];
+        for (int year = 1; year <= years; year++) {
+            cashFlow[year] = year <= inputs.getAccumulationYears()
+                    ? inputs.getAnnualContribution() * Math.pow(growth, year - 1)
+                    : -inputs.getAnnualWithdrawal() * Math.pow(inflation, year);
+            logDeflator[year] = -year * Math.log(inflation);
+        }
+    }
+
+    public int getTotalPaths() {
+        return totalPaths;
+    }
+
+    public int getCompletedPaths() {
+        return completedPaths;
+    }
+
+    /**
+     * Simulate the next {@code paths} paths. Must be called from inside a fork-join pool
+     * to run in parallel; results are identical for the same generator either way.
+     */
+    public void run(int paths, SplittableRandom random) {
+        paths = Math.min(paths, totalPaths - completedPaths);
+        if (paths > 0) {
+            new PathTask(paths, random).invoke();
+            completedPaths += paths;
+        }
+    }
+
+    public SimulationSnapshot snapshot() {
+        Histogram total = new Histogram();
+        for (Histogram histogram : histograms) {
+            total.add(histogram);
+        }
+        int[] ages = new int[years + 1];
+        double[] p10 = new double[years + 1];
+        double[] p25 = new double[years + 1];
+        double[] p50 = new double[years + 1];
+        double[] p75 = new double[years + 1];
+        double[] p90 = new double[years + 1];
+        double[] survival = new double[years + 1];
+        double[] quantiles = {0.10, 0.25, 0.50, 0.75, 0.90};
+        double[] values = new double[quantiles.length];
+
+        for (int year = 0; year <= years; year++) {
+            ages[year] = currentAge + year;
+            if (year == 0 || completedPaths == 0) {
+                p10[year] = p25[year] = p50[year] = p75[year] = p90[year] = Math.round(startBalance);
+                survival[year] = 1;
+                continue;
+            }
+            percentiles(total, year, quantiles, values);
+            p10[year] = values[0];
+            p25[year] = values[1];
+            p50[year] = values[2];
+            p75[year] = values[3];
+            p90[year] = values[4];
+            survival[year] = 1 - (double) total.depleted[year] / completedPaths;
+        }
+        return new SimulationSnapshot(completedPaths, totalPaths, ages, p10, p25, p50, p75, p90,
+                survival, survival[years]);
+    }
+
+    /**
+     * Read several ascending quantiles of one year's balances in a single pass over its histogram
+     */
+    private void percentiles(Histogram histogram, int year, double[] quantiles, double[] values) {
+        long seen = histogram.depleted[year];
+        int q = 0;
+        while (q < quantiles.length && seen > quantiles[q] * completedPaths) {
+            values[q++] = 0;
+        }
+        int offset = year * BUCKETS;
+        for (int bucket = 0; bucket < BUCKETS && q < quantiles.length; bucket++) {
+            seen += histogram.counts[offset + bucket];
+            while (q < quantiles.length && seen > quantiles[q] * completedPaths) {
+                // Geometric midpoint of the bucket
+                values[q++] = Math.round(Math.exp((bucket + 0.5) / BUCKETS_PER_LOG));
+            }
+        }
+        while (q < quantiles.length) {
+            values[q++] = Math.round(Math.exp(MAX_LOG));
+        }
+    }
+
+    /**
+     * Count of balances per year and bucket, plus the number of paths out of money by each year
+     */
+    private final class Histogram {
+        final long[] counts = new long[(years + 1) * BUCKETS];
+        final long[] depleted = new long[years + 1];
+
+        void add(Histogram other) {
+            for (int i = 0; i < counts.length; i++) {
+                counts[i] += other.counts[i];
+            }
+            for (int i = 0; i < depleted.length; i++) {
+                depleted[i] += other.depleted[i];
+            }
+        }
+    }
+
+    private final class PathTask extends RecursiveAction {
+        private final int paths;
+        private final SplittableRandom random;
+
+        PathTask(int paths, SplittableRandom random) {
+            this.paths = paths;
+            this.random = random;
+        }
+
+        @Override
+        protected void compute() {
+            if (paths > LEAF_PATHS) {
+                int half = paths / 2;
+                // Split before forking so the streams do not depend on scheduling
+                PathTask left = new PathTask(half, random.split());
+                PathTask right = new PathTask(paths - half, random);
+                invokeAll(left, right);
+                return;
+            }
+
+            Histogram histogram = histograms.poll();
+            if (histogram == null) {
+                histogram = new Histogram();
+            }
+            long[] counts = histogram.counts;
+            long[] depleted = histogram.depleted;
+            for (int path = 0; path < paths; path++) {
+                double balance = startBalance;
+                for (int year = 1; year <= years; year++) {
+                    balance = balance * Math.exp(logMean + logVolatility * random.nextGaussian()) + cashFlow[year];
+                    if (balance <= 0) {
+                        for (int y = year; y <= years; y++) {
+                            depleted[y]++;
+                        }
+                        break;
+                    }
+                    int bucket = (int) ((Math.log(balance) + logDeflator[year]) * BUCKETS_PER_LOG);
+                    counts[year * BUCKETS + Math.max(0, Math.min(BUCKETS - 1, bucket))]++;
+                }
+            }
+            histograms.add(histogram);
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.calculators.service;
+
+import org.springframework.stereotype.Service;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+
+/**
+ * Runs retirement Monte Carlo simulations on the shared compute pool
+ */
+@Service
+public class RetirementSimulationService {
+
+    /** Paths per progress update when streaming */
+    private static final int MIN_BATCH_PATHS = 2_500;
+    private static final int MAX_BATCHES = 20;
+
+    private final ComputePool computePool;
+
+    public RetirementSimulationService(ComputePool computePool) {
+        this.computePool = computePool;
+    }
+
+    /**
+     * Run the whole simulation and wait for the final result
+     */
+    public SimulationSnapshot simulate(RetirementInputs inputs) {
+        RetirementSimulation simulation = new RetirementSimulation(inputs);
+        return computePool.invoke(() -> run(simulation, inputs, snapshot -> {}));
+    }
+
+    /**
+     * Run the simulation in batches, handing a snapshot to {@code progress} after each one.
+     * An exception thrown by {@code progress} stops the run.
+     */
+    public CompletableFuture<SimulationSnapshot> simulate(RetirementInputs inputs, Consumer<SimulationSnapshot> progress) {
+        RetirementSimulation simulation = new RetirementSimulation(inputs);
+        return computePool.submit(() -> run(simulation, inputs, progress));
+    }
+
+    /**
+     * Both entry points run the same batches so a seeded run gives the same result either way
+     */
+    private static SimulationSnapshot run(RetirementSimulation simulation, RetirementInputs inputs,
+                                          Consumer<SimulationSnapshot> progress) {
+        int batches = Math.max(1, Math.min(MAX_BATCHES, simulation.getTotalPaths() / MIN_BATCH_PATHS));
+        int batchPaths = (simulation.getTotalPaths() + batches - 1) / batches;
+        SplittableRandom random = inputs.getSeed() != null ? new SplittableRandom(inputs.getSeed()) : new SplittableRandom();
+        SimulationSnapshot snapshot;
+        do {
+            simulation.run(batchPaths, random.split());
+            snapshot = simulation.snapshot();
+            progress.accept(snapshot);
+        } while (!snapshot.isComplete());
+        return snapshot;
+    }
+}
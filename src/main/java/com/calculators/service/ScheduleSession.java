@@ -0,0 +1,207 @@
+package com.calculators.service;
+
+import lombok.Getter;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Server-side state of a live amortization schedule, edited one input at a time.
+ *
+ * The whole schedule is kept as one primitive column per amount, indexed by month - 1.
+ * An edit only recomputes from the first month its new terms can affect, starting from
+ * the stored balance and totals of the month before, and reports just the rows that came
+ * out different. Moving a one-time extra payment in month 120 leaves months 1 to 119
+ * untouched. Updates are pushed to at most one attached {@link Listener}, in order.
+ */
+public class ScheduleSession {
+
+    /**
+     * Receives updates for one session, such as an open event stream
+     */
+    public interface Listener {
+        void send(ScheduleUpdate update) throws IOException;
+
+        void close();
+    }
+
+    @Getter
+    private final String id;
+    @Getter
+    private final String calculator;
+
+    private AmortizationTerms terms;
+    private long[] principal;
+    private long[] interest;
+    private long[] extra;
+    private long[] pmi;
+    private long[] balance;
+    private int rows;
+    private long totalInterest;
+    private long totalPmi;
+    private long totalPaid;
+    private MortgageSummary summary;
+    private long revision;
+    private Listener listener;
+
+    ScheduleSession(String id, String calculator, AmortizationTerms terms) {
+        this.id = id;
+        this.calculator = calculator;
+        this.terms = terms;
+        this.principal = new long[terms.termMonths()];
+        this.interest = new long[terms.termMonths()];
+        this.extra = new long[terms.termMonths()];
+        this.pmi = new long[terms.termMonths()];
+        this.balance = new long[terms.termMonths()];
+        recompute(terms, 1);
+    }
+
+    /**
+     * Replace the terms, recompute the affected months and push the changed rows to the listener
+     */
+    public synchronized ScheduleUpdate update(AmortizationTerms next) {
+        int from = terms.firstDifferentMonth(next);
+        int[] changed = from == 0 ? new int[0] : recompute(next, from);
+        revision++;
+        ScheduleUpdate update = rows(changed, changed.length, false);
+        if (listener != null) {
+            try {
+                listener.send(update);
+            } catch (IOException e) {
+                // The client went away; it gets a fresh snapshot when it reconnects
+                listener = null;
+            }
+        }
+        return update;
+    }
+
+    /**
+     * Every row and the totals, for a client that has nothing yet
+     */
+    public synchronized ScheduleUpdate snapshot() {
+        int[] all = new int[rows];
+        Arrays.setAll(all, i -> i);
+        return rows(all, rows, true);
+    }
+
+    /**
+     * Send updates to {@code next} from now on, starting with a snapshot. A previous
+     * listener is closed, so each session has a single live stream.
+     */
+    public synchronized void attach(Listener next) throws IOException {
+        if (listener != null && listener != next) {
+            listener.close();
+        }
+        listener = next;
+        next.send(snapshot());
+    }
+
+    public synchronized void detach(Listener current) {
+        if (listener == current) {
+            listener = null;
+        }
+    }
+
+    /**
+     * Close the attached listener, when the session is evicted or deleted
+     */
+    synchronized void close() {
+        if (listener != null) {
+            listener.close();
+            listener = null;
+        }
+    }
+
+    /**
+     * Recompute rows from month {@code from} onward with the new terms
+     *
+     * @return indexes of the rows that differ from before
+     */
+    private int[] recompute(AmortizationTerms next, int from) {
+        int start = Math.min(from, rows + 1);
+        long interestBefore = totalInterest;
+        long pmiBefore = totalPmi;
+        long paidBefore = totalPaid;
+        for (int i = start - 1; i < rows; i++) {
+            interestBefore -= interest[i];
+            pmiBefore -= pmi[i];
+            paidBefore -= total(terms, i);
+        }
+        if (next.termMonths() > principal.length) {
+            principal = Arrays.copyOf(principal, next.termMonths());
+            interest = Arrays.copyOf(interest, next.termMonths());
+            extra = Arrays.copyOf(extra, next.termMonths());
+            pmi = Arrays.copyOf(pmi, next.termMonths());
+            balance = Arrays.copyOf(balance, next.termMonths());
+        }
+
+        AmortizationSchedule schedule = new AmortizationSchedule(next);
+        long opening = start == 1 ? next.loanAmount() : balance[start - 2];
+        schedule.seek(start - 1, opening, interestBefore, pmiBefore, paidBefore);
+
+        boolean sameEscrow = next.monthlyTax() == terms.monthlyTax() && next.monthlyInsurance() == terms.monthlyInsurance();
+        int[] month = schedule.getMonth();
+        long[] rowPrincipal = schedule.getPrincipal();
+        long[] rowInterest = schedule.getInterest();
+        long[] rowExtra = schedule.getExtra();
+        long[] rowPmi = schedule.getPmi();
+        long[] rowBalance = schedule.getBalance();
+        int[] changed = new int[next.termMonths()];
+        int changes = 0;
+        for (int count = schedule.next(); count > 0; count = schedule.next()) {
+            for (int j = 0; j < count; j++) {
+                int i = month[j] - 1;
+                if (sameEscrow && i < rows && principal[i] == rowPrincipal[j] && interest[i] == rowInterest[j]
+                        && extra[i] == rowExtra[j] && pmi[i] == rowPmi[j] && balance[i] == rowBalance[j]) {
+                    continue;
+                }
+                principal[i] = rowPrincipal[j];
+                interest[i] = rowInterest[j];
+                extra[i] = rowExtra[j];
+                pmi[i] = rowPmi[j];
+                balance[i] = rowBalance[j];
+                changed[changes++] = i;
+            }
+        }
+
+        terms = next;
+        rows = schedule.getCurrentMonth();
+        totalInterest = schedule.getTotalInterest();
+        totalPmi = schedule.getTotalPmi();
+        totalPaid = schedule.getTotalPaid();
+        summary = schedule.summary();
+        return Arrays.copyOf(changed, changes);
+    }
+
+    private long total(AmortizationTerms rowTerms, int i) {
+        return principal[i] + interest[i] + extra[i] + rowTerms.monthlyTax() + rowTerms.monthlyInsurance() + pmi[i];
+    }
+
+    private ScheduleUpdate rows(int[] indexes, int count, boolean snapshot) {
+        int[] month = new int[count];
+        double[] rowPayment = new double[count];
+        double[] rowPrincipal = new double[count];
+        double[] rowInterest = new double[count];
+        double[] rowExtra = new double[count];
+        double[] rowTax = new double[count];
+        double[] rowInsurance = new double[count];
+        double[] rowPmi = new double[count];
+        double[] rowTotal = new double[count];
+        double[] rowBalance = new double[count];
+        for (int k = 0; k < count; k++) {
+            int i = indexes[k];
+            month[k] = i + 1;
+            rowPayment[k] = Money.toDouble(principal[i] + interest[i]);
+            rowPrincipal[k] = Money.toDouble(principal[i]);
+            rowInterest[k] = Money.toDouble(interest[i]);
+            rowExtra[k] = Money.toDouble(extra[i]);
+            rowTax[k] = Money.toDouble(terms.monthlyTax());
+            rowInsurance[k] = Money.toDouble(terms.monthlyInsurance());
+            rowPmi[k] = Money.toDouble(pmi[i]);
+            rowTotal[k] = Money.toDouble(total(terms, i));
+            rowBalance[k] = Money.toDouble(balance[i]);
+        }
+        return new ScheduleUpdate(id, revision, snapshot, summary, month, rowPayment, rowPrincipal, rowInterest,
+                rowExtra, rowTax, rowInsurance, rowPmi, rowTotal, rowBalance);
+    }
+}
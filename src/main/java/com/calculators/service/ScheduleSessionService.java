@@ -0,0 +1,69 @@
+package com.calculators.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.github.benmanes.caffeine.cache.Scheduler;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.UUID;
+
+/**
+ * Live schedule sessions for the mortgage and loan pages.
+ *
+ * Sessions are evicted after {@code app.schedule-sessions.idle-timeout} without an edit
+ * or lookup, and the oldest go first beyond {@code app.schedule-sessions.max-sessions}.
+ * Eviction closes the session's event stream, so abandoned tabs release their state.
+ */
+@Service
+public class ScheduleSessionService {
+
+    @Getter
+    private final Duration idleTimeout;
+    private final Cache<String, ScheduleSession> sessions;
+
+    public ScheduleSessionService(@Value("${app.schedule-sessions.idle-timeout:15m}") Duration idleTimeout,
+                                  @Value("${app.schedule-sessions.max-sessions:10000}") long maxSessions,
+                                  MeterRegistry meterRegistry) {
+        this.idleTimeout = idleTimeout;
+        this.sessions = Caffeine.newBuilder()
+                .expireAfterAccess(idleTimeout)
+                .maximumSize(maxSessions)
+                // Evict on time even when no other session is touched, so idle streams are closed
+                .scheduler(Scheduler.systemScheduler())
+                .removalListener((String id, ScheduleSession session, RemovalCause cause) -> {
+                    if (session != null) {
+                        session.close();
+                    }
+                })
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, sessions, "schedule-sessions");
+    }
+
+    /**
+     * Compute the whole schedule for {@code terms} and keep it for later edits
+     */
+    public ScheduleSession open(String calculator, AmortizationTerms terms) {
+        ScheduleSession session = new ScheduleSession(UUID.randomUUID().toString(), calculator, terms);
+        sessions.put(session.getId(), session);
+        return session;
+    }
+
+    /**
+     * @return the session, or null if it expired or belongs to another calculator
+     */
+    public ScheduleSession find(String calculator, String id) {
+        ScheduleSession session = sessions.getIfPresent(id);
+        return session != null && session.getCalculator().equals(calculator) ? session : null;
+    }
+
+    public void close(ScheduleSession session) {
+        sessions.invalidate(session.getId());
+    }
+}
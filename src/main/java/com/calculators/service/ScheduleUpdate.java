@@ -0,0 +1,29 @@
+package com.calculators.service;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Rows of a live schedule that changed with one edit, in columns, plus the new totals.
+ * Rows after {@code summary.payoffMonths} no longer exist and should be dropped.
+ */
+@Getter
+@AllArgsConstructor
+public class ScheduleUpdate {
+    private final String session;
+    /** Increases with every edit, so a client can discard updates it has already applied */
+    private final long revision;
+    /** True when every row is included and replaces what the client holds */
+    private final boolean snapshot;
+    private final MortgageSummary summary;
+    private final int[] month;
+    private final double[] payment;
+    private final double[] principal;
+    private final double[] interest;
+    private final double[] extra;
+    private final double[] tax;
+    private final double[] insurance;
+    private final double[] pmi;
+    private final double[] total;
+    private final double[] balance;
+}
@@ -0,0 +1,29 @@
+package com.calculators.service;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Percentile bands of a Monte Carlo run after {@code completedPaths} paths.
+ * Balances are in today's dollars, one entry per year starting with the current age.
+ */
+@Getter
+@AllArgsConstructor
+public class SimulationSnapshot {
+    private final int completedPaths;
+    private final int totalPaths;
+    private final int[] ages;
+    private final double[] p10;
+    private final double[] p25;
+    private final double[] p50;
+    private final double[] p75;
+    private final double[] p90;
+    /** Share of paths that still have money at each age */
+    private final double[] survival;
+    /** Share of paths that never run out of money */
+    private final double successRate;
+
+    public boolean isComplete() {
+        return completedPaths == totalPaths;
+    }
+}
@@ -0,0 +1,55 @@
+package com.calculators.service;
+
+import java.util.Arrays;
+
+/**
+ * Progressive rate schedule compiled into sorted primitive arrays.
+ *
+ * The tax owed at the start of each bracket is precomputed, so a lookup is one binary
+ * search plus a multiply-add regardless of how many brackets there are.
+ */
+public final class TaxBracketTable {
+
+    private final double[] lowerBounds;
+    private final double[] rates;
+    private final double[] baseTax;
+
+    /**
+     * @param lowerBounds ascending income at which each bracket starts, the first must be 0
+     * @param rates marginal rate of each bracket as a fraction
+     */
+    public TaxBracketTable(double[] lowerBounds, double[] rates) {
+        if (lowerBounds.length == 0 || lowerBounds.length != rates.length || lowerBounds[0] != 0) {
+            throw new IllegalArgumentException("Brackets must start at 0 and have one rate each");
+        }
+        this.lowerBounds = lowerBounds.clone();
+        this.rates = rates.clone();
+        this.baseTax = new double[lowerBounds.length];
+        for (int i = 1; i < lowerBounds.length; i++) {
+            if (lowerBounds[i] <= lowerBounds[i - 1]) {
+                throw new IllegalArgumentException("Bracket bounds must be ascending");
+            }
+            baseTax[i] = baseTax[i - 1] + (lowerBounds[i] - lowerBounds[i - 1]) * rates[i - 1];
+        }
+    }
+
+    /**
+     * @return index of the bracket that the last dollar of income falls into
+     */
+    public int bracketOf(double income) {
+        int index = Arrays.binarySearch(lowerBounds, income);
+        return index >= 0 ? index : Math.max(0, -index - 2);
+    }
+
+    public double rate(int bracket) {
+        return rates[bracket];
+    }
+
+    public double tax(double income) {
+        if (!(income > 0)) {
+            return 0;
+        }
+        int bracket = bracketOf(income);
+        return baseTax[bracket] + (income - lowerBounds[bracket]) * rates[bracket];
+    }
+}
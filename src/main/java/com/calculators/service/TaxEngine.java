@@ -0,0 +1,86 @@
+package com.calculators.service;
+
+/**
+ * 2025 US federal income tax and FICA estimates.
+ *
+ * Bracket tables are compiled once per filing status; computing a result does not
+ * allocate, so bulk runs can push millions of rows through one {@link TaxResult}.
+ */
+public final class TaxEngine {
+
+    private static final double[] RATES = {0.10, 0.12, 0.22, 0.24, 0.32, 0.35, 0.37};
+
+    private static final TaxBracketTable[] BRACKETS = new TaxBracketTable[FilingStatus.values().length];
+    private static final double[] STANDARD_DEDUCTION = new double[FilingStatus.values().length];
+    private static final double[] ADDITIONAL_MEDICARE_THRESHOLD = new double[FilingStatus.values().length];
+
+    private static final double SOCIAL_SECURITY_RATE = 0.062;
+    private static final double SOCIAL_SECURITY_WAGE_BASE = 176_100;
+    private static final double MEDICARE_RATE = 0.0145;
+    private static final double ADDITIONAL_MEDICARE_RATE = 0.009;
+
+    static {
+        define(FilingStatus.SINGLE, 15_750, 200_000,
+                0, 11_925, 48_475, 103_350, 197_300, 250_525, 626_350);
+        define(FilingStatus.MARRIED_JOINT, 31_500, 250_000,
+                0, 23_850, 96_950, 206_700, 394_600, 501_050, 751_600);
+        define(FilingStatus.MARRIED_SEPARATE, 15_750, 125_000,
+                0, 11_925, 48_475, 103_350, 197_300, 250_525, 375_800);
+        define(FilingStatus.HEAD_OF_HOUSEHOLD, 23_625, 200_000,
+                0, 17_000, 64_850, 103_350, 197_300, 250_500, 626_350);
+    }
+
+    private TaxEngine() {}
+
+    private static void define(FilingStatus status, double standardDeduction, double medicareThreshold,
+                               double... lowerBounds) {
+        BRACKETS[status.ordinal()] = new TaxBracketTable(lowerBounds, RATES);
+        STANDARD_DEDUCTION[status.ordinal()] = standardDeduction;
+        ADDITIONAL_MEDICARE_THRESHOLD[status.ordinal()] = medicareThreshold;
+    }
+
+    public static TaxBracketTable brackets(FilingStatus status) {
+        return BRACKETS[status.ordinal()];
+    }
+
+    public static double standardDeduction(FilingStatus status) {
+        return STANDARD_DEDUCTION[status.ordinal()];
+    }
+
+    /**
+     * Fill {@code result} with the estimate for {@code inputs}
+     */
+    public static void compute(TaxInputs inputs, TaxResult result) {
+        int status = inputs.getFilingStatus().ordinal();
+        TaxBracketTable brackets = BRACKETS[status];
+        double wages = inputs.getWages();
+        double gross = wages + inputs.getOtherIncome();
+        double agi = Math.max(0, gross - inputs.getPreTaxDeductions());
+        double deduction = Math.max(STANDARD_DEDUCTION[status], inputs.getItemizedDeductions());
+        double taxable = roundCents(Math.max(0, agi - deduction));
+
+        double federal = roundCents(Math.max(0, brackets.tax(taxable) - inputs.getCredits()));
+        double socialSecurity = roundCents(Math.min(wages, SOCIAL_SECURITY_WAGE_BASE) * SOCIAL_SECURITY_RATE);
+        double medicare = roundCents(wages * MEDICARE_RATE
+                + Math.max(0, wages - ADDITIONAL_MEDICARE_THRESHOLD[status]) * ADDITIONAL_MEDICARE_RATE);
+        double state = roundCents(agi * inputs.getStateRate() / 100);
+        double total = federal + socialSecurity + medicare + state;
+
+        result.grossIncome = gross;
+        result.adjustedGrossIncome = agi;
+        result.deduction = deduction;
+        result.taxableIncome = taxable;
+        result.federalTax = federal;
+        result.marginalRate = brackets.rate(brackets.bracketOf(taxable)) * 100;
+        result.socialSecurity = socialSecurity;
+        result.medicare = medicare;
+        result.stateTax = state;
+        result.totalTax = total;
+        result.effectiveRate = gross > 0 ? total / gross * 100 : 0;
+        result.netIncome = gross - total;
+    }
+
+    private static double roundCents(double value) {
+        return Math.round(value * 100) / 100.0;
+    }
+}
@@ -0,0 +1,38 @@
+package com.calculators.service;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Annual income figures for one taxpayer. Money values are in dollars, the state rate
+ * is a flat percentage of adjusted gross income.
+ */
+@Getter
+@Setter
+public class TaxInputs {
+    private FilingStatus filingStatus = FilingStatus.SINGLE;
+    private double wages;
+    private double otherIncome;
+    private double preTaxDeductions;
+    private double itemizedDeductions;
+    private double credits;
+    private double stateRate;
+
+    /**
+     * Reject inputs that cannot produce a meaningful estimate
+     */
+    public void validate() {
+        if (filingStatus == null) {
+            throw new IllegalArgumentException("filingStatus is required");
+        }
+        if (!(wages >= 0) || !(otherIncome >= 0) || wages + otherIncome > 1_000_000_000) {
+            throw new IllegalArgumentException("Income must be between 0 and 1,000,000,000");
+        }
+        if (!(preTaxDeductions >= 0) || !(itemizedDeductions >= 0) || !(credits >= 0)) {
+            throw new IllegalArgumentException("Deductions and credits cannot be negative");
+        }
+        if (!(stateRate >= 0) || stateRate > 20) {
+            throw new IllegalArgumentException("stateRate must be between 0 and 20");
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.calculators.service;
+
+import lombok.Getter;
+
+/**
+ * Estimated annual taxes for one taxpayer. Instances are mutable so a bulk run can
+ * reuse one per thread; see {@link TaxEngine#compute(TaxInputs, TaxResult)}.
+ */
+@Getter
+public class TaxResult {
+    double grossIncome;
+    double adjustedGrossIncome;
+    double deduction;
+    double taxableIncome;
+    double federalTax;
+    double marginalRate;
+    double socialSecurity;
+    double medicare;
+    double stateTax;
+    double totalTax;
+    double effectiveRate;
+    double netIncome;
+}
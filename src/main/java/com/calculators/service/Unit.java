@@ -0,0 +1,19 @@
+package com.calculators.service;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Unit of measurement known to the {@link UnitConverter}
+ */
+@Getter
+@AllArgsConstructor
+public class Unit {
+    private final String code;
+    private final String name;
+    private final UnitCategory category;
+    /** Position in the converter's dense tables */
+    @JsonIgnore
+    private final int index;
+}
@@ -0,0 +1,11 @@
+package com.calculators.service;
+
+/**
+ * Physical quantity a unit measures; only units of the same category convert
+ */
+public enum UnitCategory {
+    LENGTH,
+    MASS,
+    VOLUME,
+    TEMPERATURE
+}
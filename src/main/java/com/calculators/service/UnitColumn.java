@@ -0,0 +1,15 @@
+package com.calculators.service;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * A column of measurements in one unit to be converted to another
+ */
+@Getter
+@Setter
+public class UnitColumn {
+    private String from;
+    private String to;
+    private double[] values;
+}
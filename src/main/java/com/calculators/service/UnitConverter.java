@@ -0,0 +1,154 @@
+package com.calculators.service;
+
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Converts between length, mass, volume and temperature units.
+ *
+ * Every unit pair is compiled at startup into a dense scale/offset table, computed in
+ * decimal arithmetic so exact ratios such as feet to inches stay exact. Converting a
+ * value is then one table lookup and a multiply-add; unit codes are only resolved
+ * once per column.
+ */
+@Component
+public class UnitConverter {
+
+    private final List<Unit> units = new ArrayList<>();
+    private final Map<String, Unit> unitsByCode = new HashMap<>();
+    private final List<BigDecimal[]> definitions = new ArrayList<>();
+    private final int count;
+    private final double[] scale;
+    private final double[] offset;
+
+    public UnitConverter() {
+        // Each unit is defined as base = (value + offset) * numerator / denominator
+        define("mm", "Millimeter", UnitCategory.LENGTH, "0.001");
+        define("cm", "Centimeter", UnitCategory.LENGTH, "0.01");
+        define("m", "Meter", UnitCategory.LENGTH, "1");
+        define("km", "Kilometer", UnitCategory.LENGTH, "1000");
+        define("in", "Inch", UnitCategory.LENGTH, "0.0254");
+        define("ft", "Foot", UnitCategory.LENGTH, "0.3048");
+        define("yd", "Yard", UnitCategory.LENGTH, "0.9144");
+        define("mi", "Mile", UnitCategory.LENGTH, "1609.344");
+        define("nmi", "Nautical Mile", UnitCategory.LENGTH, "1852");
+
+        define("mg", "Milligram", UnitCategory.MASS, "0.000001");
+        define("g", "Gram", UnitCategory.MASS, "0.001");
+        define("kg", "Kilogram", UnitCategory.MASS, "1");
+        define("t", "Metric Ton", UnitCategory.MASS, "1000");
+        define("oz", "Ounce", UnitCategory.MASS, "0.028349523125");
+        define("lb", "Pound", UnitCategory.MASS, "0.45359237");
+        define("st", "Stone", UnitCategory.MASS, "6.35029318");
+
+        define("ml", "Milliliter", UnitCategory.VOLUME, "0.001");
+        define("l", "Liter", UnitCategory.VOLUME, "1");
+        define("m3", "Cubic Meter", UnitCategory.VOLUME, "1000");
+        define("tsp", "Teaspoon", UnitCategory.VOLUME, "0.00492892159375");
+        define("tbsp", "Tablespoon", UnitCategory.VOLUME, "0.01478676478125");
+        define("floz", "Fluid Ounce", UnitCategory.VOLUME, "0.0295735295625");
+        define("cup", "Cup", UnitCategory.VOLUME, "0.2365882365");
+        define("pt", "Pint", UnitCategory.VOLUME, "0.473176473");
+        define("qt", "Quart", UnitCategory.VOLUME, "0.946352946");
+        define("gal", "Gallon", UnitCategory.VOLUME, "3.785411784");
+        define("ukgal", "Imperial Gallon", UnitCategory.VOLUME, "4.54609");
+
+        define("c", "Celsius", UnitCategory.TEMPERATURE, "273.15", "1", "1");
+        define("f", "Fahrenheit", UnitCategory.TEMPERATURE, "459.67", "5", "9");
+        define("k", "Kelvin", UnitCategory.TEMPERATURE, "0", "1", "1");
+        define("r", "Rankine", UnitCategory.TEMPERATURE, "0", "5", "9");
+
+        this.count = units.size();
+        this.scale = new double[count * count];
+        this.offset = new double[count * count];
+        MathContext context = MathContext.DECIMAL128;
+        for (Unit from : units) {
+            BigDecimal[] a = definitions.get(from.getIndex());
+            for (Unit to : units) {
+                int pair = from.getIndex() * count + to.getIndex();
+                if (from.getCategory() != to.getCategory()) {
+                    scale[pair] = Double.NaN;
+                    offset[pair] = Double.NaN;
+                    continue;
+                }
+                BigDecimal[] b = definitions.get(to.getIndex());
+                // to = (from + offsetA) * ratioA / ratioB - offsetB
+                BigDecimal ratio = a[1].multiply(b[2]).divide(a[2].multiply(b[1]), context);
+                scale[pair] = ratio.doubleValue();
+                offset[pair] = a[0].multiply(ratio, context).subtract(b[0]).doubleValue();
+            }
+        }
+        definitions.clear();
+    }
+
+    private void define(String code, String name, UnitCategory category, String factor) {
+        define(code, name, category, "0", factor, "1");
+    }
+
+    private void define(String code, String name, UnitCategory category,
+                        String offset, String numerator, String denominator) {
+        Unit unit = new Unit(code, name, category, units.size());
+        units.add(unit);
+        unitsByCode.put(code, unit);
+        unitsByCode.put(name.toLowerCase(Locale.ROOT), unit);
+        definitions.add(new BigDecimal[]{new BigDecimal(offset), new BigDecimal(numerator), new BigDecimal(denominator)});
+    }
+
+    public List<Unit> getUnits() {
+        return Collections.unmodifiableList(units);
+    }
+
+    /**
+     * @throws IllegalArgumentException if the code or name is not a known unit
+     */
+    public Unit find(String code) {
+        Unit unit = code == null ? null : unitsByCode.get(code.trim().toLowerCase(Locale.ROOT));
+        if (unit == null) {
+            throw new IllegalArgumentException("Unknown unit: " + code);
+        }
+        return unit;
+    }
+
+    /**
+     * Index of the table entry for a unit pair
+     *
+     * @throws IllegalArgumentException if the units measure different quantities
+     */
+    public int pair(Unit from, Unit to) {
+        if (from.getCategory() != to.getCategory()) {
+            throw new IllegalArgumentException("Cannot convert " + from.getCode() + " to " + to.getCode());
+        }
+        return from.getIndex() * count + to.getIndex();
+    }
+
+    public double getScale(int pair) {
+        return scale[pair];
+    }
+
+    public double getOffset(int pair) {
+        return offset[pair];
+    }
+
+    public double convert(int pair, double value) {
+        return value * scale[pair] + offset[pair];
+    }
+
+    /**
+     * Convert {@code length} values from {@code source} into {@code target}, which may be the same array
+     */
+    public void convert(int pair, double[] source, double[] target, int length) {
+        double a = scale[pair];
+        double b = offset[pair];
+        for (int i = 0; i < length; i++) {
+            target[i] = source[i] * a + b;
+        }
+    }
+}
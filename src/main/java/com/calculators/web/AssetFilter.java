@@ -0,0 +1,47 @@
+package com.calculators.web;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Serves fingerprinted static files from memory. Hashed URLs never change content,
+ * so they are cacheable for a year; logical URLs must be revalidated.
+ */
+@Component
+public class AssetFilter extends OncePerRequestFilter {
+
+    private static final String IMMUTABLE = "public, max-age=31536000, immutable";
+    private static final String REVALIDATE = "no-cache";
+    private static final String ROUTE = "assets";
+
+    private final AssetPipeline assetPipeline;
+
+    public AssetFilter(AssetPipeline assetPipeline) {
+        this.assetPipeline = assetPipeline;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String method = request.getMethod();
+        return !assetPipeline.isEnabled() || (!"GET".equals(method) && !"HEAD".equals(method));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String path = request.getRequestURI();
+        AssetPipeline.Asset asset = assetPipeline.find(path);
+        if (asset == null) {
+            chain.doFilter(request, response);
+            return;
+        }
+        request.setAttribute(RequestMetricsFilter.ROUTE_ATTRIBUTE, ROUTE);
+        asset.content().write(request, response, path.equals(asset.hashedPath()) ? IMMUTABLE : REVALIDATE);
+    }
+}
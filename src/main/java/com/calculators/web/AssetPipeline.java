@@ -0,0 +1,204 @@
+package com.calculators.web;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Fingerprints every file under {@code classpath:/static} at startup.
+ *
+ * Each file is loaded once, hashed and gzipped in memory, and published under both its
+ * logical path ({@code /css/site.css}) and a content-hashed path ({@code /css/site-1a2b3c4d5e.css}).
+ * Pages link to the hashed path through {@link #url(String)}, which lets {@link AssetFilter}
+ * serve it with a one-year immutable cache lifetime. A precompressed {@code .br} sibling
+ * shipped next to a file is picked up as its Brotli variant.
+ */
+@Slf4j
+@Component
+public class AssetPipeline {
+
+    private static final String STATIC_ROOT = "static/";
+    private static final int HASH_LENGTH = 10;
+
+    private final boolean enabled;
+    private final Map<String, Asset> assetsByPath = new ConcurrentHashMap<>();
+    private final Map<String, Asset> assetsByLogicalPath = new ConcurrentHashMap<>();
+    private final Map<List<String>, String> bundleUrls = new ConcurrentHashMap<>();
+
+    public AssetPipeline(@Value("${app.assets.fingerprint:true}") boolean fingerprint,
+                         @Value("${spring.thymeleaf.cache:true}") boolean templateCache) {
+        this.enabled = fingerprint && templateCache;
+    }
+
+    /**
+     * A static file as served, either under its logical or its hashed path
+     */
+    public record Asset(String logicalPath, String hashedPath, CompressedContent content) {}
+
+    @PostConstruct
+    void load() throws IOException {
+        if (!enabled) {
+            return;
+        }
+        PathMatchingResourcePatternResolver resolver = new PathMatchingResourcePatternResolver();
+        Map<String, Resource> files = new HashMap<>();
+        for (Resource root : resolver.getResources("classpath*:" + STATIC_ROOT)) {
+            String rootUrl = root.getURL().toString();
+            for (Resource resource : resolver.getResources(rootUrl + "**/*")) {
+                String url = resource.getURL().toString();
+                if (resource.isReadable() && !url.endsWith("/")) {
+                    files.putIfAbsent("/" + url.substring(rootUrl.length()), resource);
+                }
+            }
+        }
+
+        for (Map.Entry<String, Resource> file : files.entrySet()) {
+            String logicalPath = file.getKey();
+            if (logicalPath.endsWith(".br") || logicalPath.endsWith(".gz")) {
+                continue;
+            }
+            Resource brotli = files.get(logicalPath + ".br");
+            register(logicalPath, read(file.getValue()), brotli != null ? read(brotli) : null);
+        }
+        log.info("Fingerprinted {} static assets", assetsByLogicalPath.size());
+    }
+
+    /**
+     * Publish generated content (such as a bundle) under a logical path and its hashed twin
+     *
+     * @return the hashed URL to reference from pages
+     */
+    public String register(String logicalPath, byte[] bytes, byte[] brotli) throws IOException {
+        MediaType mediaType = MediaTypeFactory.getMediaType(logicalPath).orElse(MediaType.APPLICATION_OCTET_STREAM);
+        CompressedContent content = new CompressedContent(mediaType.toString(), bytes, isCompressible(mediaType), brotli);
+        String hashedPath = hashedPath(logicalPath, content.getHash());
+        Asset asset = new Asset(logicalPath, hashedPath, content);
+        assetsByPath.put(logicalPath, asset);
+        assetsByPath.put(hashedPath, asset);
+        assetsByLogicalPath.put(logicalPath, asset);
+        return hashedPath;
+    }
+
+    /**
+     * Concatenate and minify a page's CSS or JS files into one bundle, built once per
+     * distinct file list.
+     *
+     * A list that names a file missing from the classpath is not bundled: a warning is
+     * logged and the page falls back to linking each file, so the missing one shows up as
+     * a 404 in the browser rather than vanishing from a bundle.
+     *
+     * @return the hashed bundle URL, or null if there is nothing to bundle or a file is missing
+     */
+    public String bundle(List<String> paths) {
+        if (!enabled || paths == null || paths.isEmpty()) {
+            return null;
+        }
+        String url = bundleUrls.computeIfAbsent(List.copyOf(paths), this::buildBundle);
+        return url.isEmpty() ? null : url;
+    }
+
+    private String buildBundle(List<String> paths) {
+        String last = paths.get(paths.size() - 1);
+        boolean css = last.endsWith(".css");
+        StringBuilder source = new StringBuilder();
+        for (String path : paths) {
+            Asset asset = assetsByLogicalPath.get(path);
+            if (asset == null) {
+                log.warn("Not bundling {}: {} is missing; the page links the files individually", paths, path);
+                return "";
+            }
+            String text = new String(asset.content().getIdentity(), StandardCharsets.UTF_8);
+            source.append(css ? Minifier.css(text) : Minifier.js(text));
+            // Guard against files that end without a terminating semicolon
+            source.append(css ? "\n" : ";\n");
+        }
+
+        // Named after the whole file list, so pages that merely end in the same file do not collide
+        String name = HexFormat.of().formatHex(sha256(String.join("\n", paths)), 0, HASH_LENGTH / 2);
+        try {
+            return register("/bundles/" + name + (css ? ".css" : ".js"),
+                    source.toString().getBytes(StandardCharsets.UTF_8), null);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * @return the content-hashed URL for a static file, or the path unchanged if it is unknown
+     */
+    public String url(String logicalPath) {
+        if (logicalPath == null) {
+            return null;
+        }
+        Asset asset = assetsByLogicalPath.get(logicalPath);
+        return asset != null ? asset.hashedPath() : logicalPath;
+    }
+
+    /**
+     * @return the asset served at the request path, or null
+     */
+    public Asset find(String path) {
+        return assetsByPath.get(path);
+    }
+
+    public Collection<Asset> getAssets() {
+        return Collections.unmodifiableCollection(assetsByLogicalPath.values());
+    }
+
+    private static String hashedPath(String logicalPath, String hash) {
+        String fingerprint = hash.substring(0, HASH_LENGTH);
+        int slash = logicalPath.lastIndexOf('/');
+        int dot = logicalPath.lastIndexOf('.');
+        if (dot <= slash) {
+            return logicalPath + "-" + fingerprint;
+        }
+        return logicalPath.substring(0, dot) + "-" + fingerprint + logicalPath.substring(dot);
+    }
+
+    private static boolean isCompressible(MediaType mediaType) {
+        String subtype = mediaType.getSubtype();
+        return "text".equals(mediaType.getType())
+                || subtype.contains("javascript")
+                || subtype.contains("json")
+                || subtype.contains("xml")
+                || subtype.equals("x-icon")
+                || subtype.equals("vnd.microsoft.icon");
+    }
+
+    private static byte[] sha256(String text) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(text.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static byte[] read(Resource resource) throws IOException {
+        try (InputStream in = resource.getInputStream()) {
+            return in.readAllBytes();
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.calculators.web;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.thymeleaf.dialect.AbstractProcessorDialect;
+import org.thymeleaf.processor.IProcessor;
+import org.thymeleaf.standard.StandardDialect;
+import org.thymeleaf.standard.processor.StandardXmlNsTagProcessor;
+import org.thymeleaf.templatemode.TemplateMode;
+
+import java.util.Set;
+
+/**
+ * Template attributes specific to this site, under the {@code calc} prefix.
+ *
+ * {@code calc:flush} pushes everything rendered so far to the client. The layout puts one
+ * at the end of the head, so the browser starts on the stylesheets, preloads and scripts
+ * while the body is still rendering, and long tables flush every few rows. Disabled with
+ * {@code app.render.early-flush=false}.
+ *
+ * Two limits apply. Cacheable pages are rendered into the page cache's
+ * ContentCachingResponseWrapper, which ignores flushes, so early flush only takes effect
+ * for responses that bypass the cache: requests with a query string and permalinks.
+ * And once the head has been flushed the status is committed, so a template error later
+ * in the body can no longer become an error page; the client gets a truncated 200.
+ */
+@Component
+public class CalculatorDialect extends AbstractProcessorDialect {
+
+    public static final String PREFIX = "calc";
+
+    private final boolean earlyFlush;
+
+    public CalculatorDialect(@Value("${app.render.early-flush:true}") boolean earlyFlush) {
+        super("Calculators", PREFIX, StandardDialect.PROCESSOR_PRECEDENCE);
+        this.earlyFlush = earlyFlush;
+    }
+
+    @Override
+    public Set<IProcessor> getProcessors(String dialectPrefix) {
+        return Set.of(
+                new StandardXmlNsTagProcessor(TemplateMode.HTML, dialectPrefix),
+                new FlushAttributeProcessor(dialectPrefix, earlyFlush));
+    }
+}
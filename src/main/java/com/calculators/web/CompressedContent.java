@@ -0,0 +1,137 @@
+package com.calculators.web;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.Getter;
+import org.springframework.http.HttpHeaders;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * An immutable response body kept in every encoding we can serve, with a strong ETag
+ * per encoding. Writing it is a header check plus a single array copy.
+ */
+@Getter
+public class CompressedContent {
+
+    private final String contentType;
+    private final String hash;
+    private final byte[] identity;
+    private final byte[] gzip;
+    private final byte[] brotli;
+    private final String etag;
+
+    /**
+     * @param compress whether a gzip variant is worth keeping for this content type
+     * @param brotli   precompressed Brotli body, or null when none was shipped
+     */
+    public CompressedContent(String contentType, byte[] identity, boolean compress, byte[] brotli) throws IOException {
+        this.contentType = contentType;
+        this.hash = hash(identity);
+        this.identity = identity;
+        this.gzip = compress ? gzip(identity) : null;
+        this.brotli = brotli;
+        this.etag = '"' + hash + '"';
+    }
+
+    /**
+     * Write the best encoding the client accepts, or a 304 if it already has it
+     */
+    public void write(HttpServletRequest request, HttpServletResponse response, String cacheControl) throws IOException {
+        String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        String encoding = null;
+        byte[] body = identity;
+        if (brotli != null && accepts(acceptEncoding, "br")) {
+            encoding = "br";
+            body = brotli;
+        } else if (gzip != null && accepts(acceptEncoding, "gzip")) {
+            encoding = "gzip";
+            body = gzip;
+        }
+        String responseEtag = encoding == null ? etag : '"' + hash + '-' + encoding + '"';
+
+        response.setContentType(contentType);
+        response.setHeader(HttpHeaders.ETAG, responseEtag);
+        response.setHeader(HttpHeaders.CACHE_CONTROL, cacheControl);
+        if (gzip != null || brotli != null) {
+            response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        }
+
+        String ifNoneMatch = request.getHeader(HttpHeaders.IF_NONE_MATCH);
+        if (ifNoneMatch != null && (ifNoneMatch.contains(responseEtag) || ifNoneMatch.trim().equals("*"))) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+
+        response.setStatus(HttpServletResponse.SC_OK);
+        if (encoding != null) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, encoding);
+        }
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+
+    /**
+     * Whether the Accept-Encoding header allows the encoding with a non-zero q-value, either
+     * by name or through {@code *}. An entry naming the encoding takes precedence over {@code *}.
+     */
+    static boolean accepts(String acceptEncoding, String encoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        double wildcard = 0;
+        for (String entry : acceptEncoding.split(",")) {
+            int semicolon = entry.indexOf(';');
+            String name = (semicolon < 0 ? entry : entry.substring(0, semicolon)).trim();
+            boolean named = name.equalsIgnoreCase(encoding);
+            if (!named && !name.equals("*")) {
+                continue;
+            }
+            double quality = semicolon < 0 ? 1 : quality(entry.substring(semicolon + 1));
+            if (named) {
+                return quality > 0;
+            }
+            wildcard = quality;
+        }
+        return wildcard > 0;
+    }
+
+    /**
+     * @return the q parameter of an Accept-Encoding entry, 1 when absent and 0 when malformed
+     */
+    private static double quality(String parameters) {
+        for (String parameter : parameters.split(";")) {
+            int equals = parameter.indexOf('=');
+            if (equals > 0 && parameter.substring(0, equals).trim().equalsIgnoreCase("q")) {
+                try {
+                    return Double.parseDouble(parameter.substring(equals + 1).trim());
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 1;
+    }
+
+    private static byte[] gzip(byte[] bytes) throws IOException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(Math.max(bytes.length / 4, 64));
+        try (GZIPOutputStream out = new GZIPOutputStream(buffer)) {
+            out.write(bytes);
+        }
+        return buffer.toByteArray();
+    }
+
+    private static String hash(byte[] bytes) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(bytes);
+            return HexFormat.of().formatHex(digest, 0, 16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.calculators.web;
+
+import jakarta.servlet.http.HttpServletResponse;
+import org.thymeleaf.context.ITemplateContext;
+import org.thymeleaf.context.IWebContext;
+import org.thymeleaf.engine.AttributeName;
+import org.thymeleaf.exceptions.TemplateOutputException;
+import org.thymeleaf.model.IProcessableElementTag;
+import org.thymeleaf.processor.element.AbstractAttributeTagProcessor;
+import org.thymeleaf.processor.element.IElementTagStructureHandler;
+import org.thymeleaf.standard.expression.StandardExpressions;
+import org.thymeleaf.templatemode.TemplateMode;
+import org.thymeleaf.util.EvaluationUtils;
+import org.thymeleaf.web.servlet.IServletWebExchange;
+
+import java.io.IOException;
+
+/**
+ * {@code calc:flush="condition"}: flush the response before this element when the
+ * condition holds, or always when it is empty. Thymeleaf writes straight to the servlet
+ * writer, so everything before the element goes out as a chunk. Inside {@code th:each}
+ * the condition is evaluated per row, e.g. {@code calc:flush="${rowStat.count % 100 == 0}"}.
+ *
+ * Responses that are being captured, such as a page cache fill, ignore the flush, and
+ * outside a servlet request the attribute is simply removed.
+ */
+class FlushAttributeProcessor extends AbstractAttributeTagProcessor {
+
+    private static final String ATTRIBUTE_NAME = "flush";
+    /** After th:each, th:if and friends, so the condition sees the iteration variables */
+    private static final int PRECEDENCE = 1500;
+
+    private final boolean enabled;
+
+    FlushAttributeProcessor(String dialectPrefix, boolean enabled) {
+        super(TemplateMode.HTML, dialectPrefix, null, false, ATTRIBUTE_NAME, true, PRECEDENCE, true);
+        this.enabled = enabled;
+    }
+
+    @Override
+    protected void doProcess(ITemplateContext context, IProcessableElementTag tag, AttributeName attributeName,
+                             String attributeValue, IElementTagStructureHandler structureHandler) {
+        if (!enabled || !(context instanceof IWebContext web)
+                || !(web.getExchange() instanceof IServletWebExchange exchange)) {
+            return;
+        }
+        if (attributeValue != null && !attributeValue.isBlank()) {
+            Object condition = StandardExpressions.getExpressionParser(context.getConfiguration())
+                    .parseExpression(context, attributeValue)
+                    .execute(context);
+            if (!EvaluationUtils.evaluateAsBoolean(condition)) {
+                return;
+            }
+        }
+        try {
+            ((HttpServletResponse) exchange.getNativeResponseObject()).flushBuffer();
+        } catch (IOException e) {
+            throw new TemplateOutputException("Could not flush the response", context.getTemplateData().getTemplate(),
+                    tag.getLine(), tag.getCol(), e);
+        }
+    }
+}
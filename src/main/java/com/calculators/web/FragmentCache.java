@@ -0,0 +1,118 @@
+package com.calculators.web;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Component;
+import org.thymeleaf.ITemplateEngine;
+import org.thymeleaf.context.Context;
+import org.thymeleaf.context.IContext;
+import org.thymeleaf.context.IExpressionContext;
+import org.thymeleaf.context.IWebContext;
+import org.thymeleaf.context.WebContext;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Renders shared layout fragments once per distinct input and reuses the markup.
+ *
+ * Header, footer, breadcrumb and sidebars only depend on a handful of model variables,
+ * so the layout splices them in with {@code th:utext} instead of {@code th:replace}:
+ *
+ * <pre>
+ * &lt;th:block th:utext="${@fragmentCache.render(#ctx, 'fragments/header :: header', 'appName', 'activePage')}"/&gt;
+ * </pre>
+ *
+ * The listed variables form the cache key and are the only ones the fragment sees, so a
+ * fragment that starts reading a new variable renders it as missing rather than serving
+ * stale markup. This keeps pages that bypass the page cache, such as permalinks, down to
+ * rendering their body. Like the page cache it is off while Thymeleaf caching is off.
+ */
+@Component
+public class FragmentCache {
+
+    private static final int MAXIMUM_FRAGMENTS = 1024;
+    private static final String SELECTOR_SEPARATOR = "::";
+
+    private final ITemplateEngine templateEngine;
+    private final boolean enabled;
+    private final Cache<Key, String> cache;
+
+    public FragmentCache(@Lazy ITemplateEngine templateEngine,
+                         @Value("${spring.thymeleaf.cache:true}") boolean templateCache,
+                         MeterRegistry meterRegistry) {
+        this.templateEngine = templateEngine;
+        this.enabled = templateCache;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(MAXIMUM_FRAGMENTS)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "fragments");
+    }
+
+    /**
+     * Render {@code fragment} ("template :: selector") with only the named variables of
+     * {@code context}, from the cache when the same values were rendered before
+     */
+    public String render(IExpressionContext context, String fragment, String... variables) {
+        List<Object> values = new ArrayList<>(variables.length);
+        for (String variable : variables) {
+            values.add(context.getVariable(variable));
+        }
+        String contextPath = context instanceof IWebContext web ? web.getExchange().getRequest().getApplicationPath() : "";
+        Key key = new Key(fragment, context.getLocale(), contextPath, variables, values);
+        if (!enabled) {
+            return process(context, key);
+        }
+        return cache.get(key, k -> process(context, k));
+    }
+
+    public void clear() {
+        cache.invalidateAll();
+    }
+
+    private String process(IExpressionContext context, Key key) {
+        Map<String, Object> variables = new HashMap<>();
+        for (int i = 0; i < key.variables().length; i++) {
+            variables.put(key.variables()[i], key.values().get(i));
+        }
+        IContext fragmentContext = context instanceof IWebContext web
+                ? new WebContext(web.getExchange(), key.locale(), variables)
+                : new Context(key.locale(), variables);
+
+        int separator = key.fragment().indexOf(SELECTOR_SEPARATOR);
+        if (separator < 0) {
+            return templateEngine.process(key.fragment().trim(), fragmentContext);
+        }
+        String template = key.fragment().substring(0, separator).trim();
+        String selector = key.fragment().substring(separator + SELECTOR_SEPARATOR.length()).trim();
+        return templateEngine.process(template, Set.of(selector), fragmentContext);
+    }
+
+    private record Key(String fragment, Locale locale, String contextPath, String[] variables, List<Object> values) {
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof Key key
+                    && fragment.equals(key.fragment)
+                    && locale.equals(key.locale)
+                    && contextPath.equals(key.contextPath)
+                    && Arrays.equals(variables, key.variables)
+                    && values.equals(key.values);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * (31 * fragment.hashCode() + Arrays.hashCode(variables)) + values.hashCode();
+        }
+    }
+}
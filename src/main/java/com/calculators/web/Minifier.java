@@ -0,0 +1,270 @@
+package com.calculators.web;
+
+import java.util.Arrays;
+import java.util.Set;
+
+/**
+ * Conservative whitespace and comment stripping for bundled CSS and JavaScript.
+ * Tokens are never rewritten; the savings come from comments and indentation.
+ */
+public final class Minifier {
+
+    private static final Set<String> REGEX_KEYWORDS = Set.of(
+            "return", "typeof", "instanceof", "in", "of", "new", "delete", "void", "throw",
+            "case", "do", "else", "yield", "await");
+
+    private Minifier() {}
+
+    public static String css(String source) {
+        StringBuilder out = new StringBuilder(source.length());
+        int length = source.length();
+        boolean pendingSpace = false;
+        for (int i = 0; i < length; i++) {
+            char c = source.charAt(i);
+
+            // Comments
+            if (c == '/' && i + 1 < length && source.charAt(i + 1) == '*') {
+                int end = source.indexOf("*/", i + 2);
+                i = end < 0 ? length : end + 1;
+                pendingSpace = true;
+                continue;
+            }
+
+            // Strings are copied untouched
+            if (c == '"' || c == '\'') {
+                int end = i + 1;
+                while (end < length && source.charAt(end) != c) {
+                    end += source.charAt(end) == '\\' ? 2 : 1;
+                }
+                end = Math.min(end, length - 1);
+                if (pendingSpace && !out.isEmpty() && needsSpace(out.charAt(out.length() - 1), c)) {
+                    out.append(' ');
+                }
+                out.append(source, i, end + 1);
+                i = end;
+                pendingSpace = false;
+                continue;
+            }
+
+            if (Character.isWhitespace(c)) {
+                pendingSpace = true;
+                continue;
+            }
+
+            if (c == '}' && !out.isEmpty() && out.charAt(out.length() - 1) == ';') {
+                out.setLength(out.length() - 1);
+            }
+            if (pendingSpace && !out.isEmpty() && needsSpace(out.charAt(out.length() - 1), c)) {
+                out.append(' ');
+            }
+            pendingSpace = false;
+            out.append(c);
+        }
+        return out.toString();
+    }
+
+    /**
+     * Drops comments, indentation and blank lines and collapses runs of spaces. Strings,
+     * template literals with their {@code ${}} expressions, and regular expression literals
+     * are recognised and copied untouched. Line breaks are kept so automatic semicolon
+     * insertion still sees the same statement boundaries.
+     */
+    public static String js(String source) {
+        StringBuilder out = new StringBuilder(source.length());
+        int length = source.length();
+        // For each open ${ expression of a template literal, the brace depth of the code around it
+        int[] outerBraces = new int[8];
+        int templates = 0;
+        int braces = 0;
+        boolean pendingSpace = false;
+        for (int i = 0; i < length; i++) {
+            char c = source.charAt(i);
+            char next = i + 1 < length ? source.charAt(i + 1) : 0;
+
+            if (c == '\n') {
+                endLine(out);
+                pendingSpace = false;
+                continue;
+            }
+            if (Character.isWhitespace(c)) {
+                pendingSpace = true;
+                continue;
+            }
+
+            // Comments; a block comment that spans lines still ends the line
+            if (c == '/' && next == '/') {
+                int end = source.indexOf('\n', i);
+                i = (end < 0 ? length : end) - 1;
+                continue;
+            }
+            if (c == '/' && next == '*') {
+                int end = source.indexOf("*/", i + 2);
+                end = end < 0 ? length : end + 2;
+                int newline = source.indexOf('\n', i);
+                if (newline >= 0 && newline < end) {
+                    endLine(out);
+                    pendingSpace = false;
+                } else {
+                    pendingSpace = true;
+                }
+                i = end - 1;
+                continue;
+            }
+
+            if (pendingSpace && !out.isEmpty() && out.charAt(out.length() - 1) != '\n') {
+                out.append(' ');
+            }
+            pendingSpace = false;
+
+            int end;
+            if (c == '"' || c == '\'') {
+                end = skipString(source, i, c);
+            } else if (c == '`' || c == '}' && braces == 0 && templates > 0) {
+                // Template text runs to the closing backtick or the next ${
+                if (c == '}') {
+                    braces = outerBraces[--templates];
+                }
+                end = skipTemplate(source, i + 1);
+                if (source.startsWith("${", end - 2)) {
+                    if (templates == outerBraces.length) {
+                        outerBraces = Arrays.copyOf(outerBraces, templates * 2);
+                    }
+                    outerBraces[templates++] = braces;
+                    braces = 0;
+                }
+            } else if (c == '/' && regexAllowed(out)) {
+                end = skipRegex(source, i);
+            } else {
+                if (c == '{') {
+                    braces++;
+                } else if (c == '}') {
+                    braces--;
+                }
+                out.append(c);
+                continue;
+            }
+            out.append(source, i, end);
+            i = end - 1;
+        }
+        endLine(out);
+        return out.toString();
+    }
+
+    /**
+     * Strip trailing spaces and end the current output line, unless it is empty
+     */
+    private static void endLine(StringBuilder out) {
+        int end = out.length();
+        while (end > 0 && out.charAt(end - 1) == ' ') {
+            end--;
+        }
+        out.setLength(end);
+        if (end > 0 && out.charAt(end - 1) != '\n') {
+            out.append('\n');
+        }
+    }
+
+    /**
+     * @return the index just past the closing quote of the string starting at {@code start}
+     */
+    private static int skipString(String source, int start, char quote) {
+        int i = start + 1;
+        while (i < source.length()) {
+            char c = source.charAt(i);
+            if (c == '\\') {
+                i += 2;
+            } else if (c == quote) {
+                return i + 1;
+            } else if (c == '\n') {
+                return i;
+            } else {
+                i++;
+            }
+        }
+        return source.length();
+    }
+
+    /**
+     * @return the index just past the closing backtick or the next {@code ${}
+     */
+    private static int skipTemplate(String source, int from) {
+        int i = from;
+        while (i < source.length()) {
+            char c = source.charAt(i);
+            if (c == '\\') {
+                i += 2;
+            } else if (c == '`') {
+                return i + 1;
+            } else if (c == '$' && i + 1 < source.length() && source.charAt(i + 1) == '{') {
+                return i + 2;
+            } else {
+                i++;
+            }
+        }
+        return source.length();
+    }
+
+    /**
+     * @return the index just past the closing slash of the regular expression literal at
+     *         {@code start}; flags are copied as ordinary characters
+     */
+    private static int skipRegex(String source, int start) {
+        boolean inClass = false;
+        int i = start + 1;
+        while (i < source.length()) {
+            char c = source.charAt(i);
+            if (c == '\\') {
+                i += 2;
+                continue;
+            }
+            if (c == '\n') {
+                return i;
+            }
+            if (c == '[') {
+                inClass = true;
+            } else if (c == ']') {
+                inClass = false;
+            } else if (c == '/' && !inClass) {
+                return i + 1;
+            }
+            i++;
+        }
+        return source.length();
+    }
+
+    /**
+     * A slash starts a regular expression where an operand is expected: at the start, after
+     * an operator or opening punctuation, or after a keyword such as {@code return}.
+     * After an identifier, number or closing bracket it is a division.
+     */
+    private static boolean regexAllowed(StringBuilder out) {
+        int end = out.length();
+        while (end > 0 && (out.charAt(end - 1) == ' ' || out.charAt(end - 1) == '\n')) {
+            end--;
+        }
+        if (end == 0) {
+            return true;
+        }
+        char previous = out.charAt(end - 1);
+        if (!Character.isJavaIdentifierPart(previous)) {
+            return previous != ')' && previous != ']';
+        }
+        int start = end;
+        while (start > 0 && Character.isJavaIdentifierPart(out.charAt(start - 1))) {
+            start--;
+        }
+        return REGEX_KEYWORDS.contains(out.substring(start, end));
+    }
+
+    /**
+     * Whitespace is only significant between two tokens that are not punctuation.
+     * A space before a colon is kept because it matters in selectors ({@code a :hover}).
+     */
+    private static boolean needsSpace(char previous, char next) {
+        return !isCssPunctuation(previous) && previous != ':' && !isCssPunctuation(next);
+    }
+
+    private static boolean isCssPunctuation(char c) {
+        return c == '{' || c == '}' || c == ';' || c == ',' || c == '>';
+    }
+}
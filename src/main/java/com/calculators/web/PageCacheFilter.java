@@ -0,0 +1,92 @@
+package com.calculators.web;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * Full-response cache for pages whose output is the same for every visitor.
+ *
+ * The first request for a route renders normally; the HTML is then kept as identity
+ * and gzip byte arrays with strong ETags, and later requests are answered from memory
+ * (or with a 304 when the client already has it). The cache lives only as long as the
+ * JVM, so a redeploy starts clean, and it is switched off whenever Thymeleaf template
+ * caching is off so edited templates show up immediately during development.
+ */
+@Component
+public class PageCacheFilter extends OncePerRequestFilter {
+
+    private static final Pattern CACHEABLE_PATH = Pattern.compile("/|/about|/contact|/tools|/calculators/[a-z0-9-]+");
+    private static final String CACHE_CONTROL = "no-cache";
+
+    private final boolean enabled;
+    private final Map<String, CompressedContent> pages = new ConcurrentHashMap<>();
+
+    public PageCacheFilter(@Value("${app.page-cache.enabled:true}") boolean enabled,
+                           @Value("${spring.thymeleaf.cache:true}") boolean templateCache) {
+        this.enabled = enabled && templateCache;
+    }
+
+    /**
+     * Drop every cached page, e.g. after content has been changed at runtime
+     */
+    public void clear() {
+        pages.clear();
+    }
+
+    public int size() {
+        return pages.size();
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        if (!enabled || request.getQueryString() != null) {
+            return true;
+        }
+        String method = request.getMethod();
+        if (!"GET".equals(method) && !"HEAD".equals(method)) {
+            return true;
+        }
+        return !CACHEABLE_PATH.matcher(request.getRequestURI()).matches();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String key = request.getRequestURI();
+        CompressedContent page = pages.get(key);
+        if (page != null) {
+            // Only pages that rendered with 200 are cached, so keys are known routes
+            request.setAttribute(RequestMetricsFilter.ROUTE_ATTRIBUTE, key);
+            page.write(request, response, CACHE_CONTROL);
+            return;
+        }
+
+        ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+        chain.doFilter(request, wrapper);
+
+        String contentType = wrapper.getContentType();
+        boolean cacheable = wrapper.getStatus() == HttpServletResponse.SC_OK
+                && contentType != null && contentType.startsWith("text/html")
+                && !wrapper.getHeaderNames().contains(HttpHeaders.SET_COOKIE);
+        if (!cacheable) {
+            wrapper.copyBodyToResponse();
+            return;
+        }
+
+        page = new CompressedContent(contentType, wrapper.getContentAsByteArray(), true, null);
+        pages.putIfAbsent(key, page);
+        page.write(request, response, CACHE_CONTROL);
+    }
+}
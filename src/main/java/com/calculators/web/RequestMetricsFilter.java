@@ -0,0 +1,147 @@
+package com.calculators.web;
+
+import com.calculators.config.CalculatorRegistry;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-route timing of the phases of a request, plus the bytes it allocated.
+ *
+ * Phases are marked by {@link RequestMetricsInterceptor}: {@code model} is the handler
+ * building the model (or writing a REST body), {@code render} is the view rendering and
+ * {@code write} is everything after that until the response is flushed. Requests that
+ * never reach a handler, such as page cache hits, only have a write phase. Timers keep
+ * HdrHistogram-backed percentiles and publish histogram buckets for Prometheus.
+ *
+ * Calculator pages share handler patterns such as {@code /calculators/{slug}}, so the
+ * slug is filled in for calculators in the {@link CalculatorRegistry}; unknown slugs keep
+ * the pattern, which bounds the number of route tags.
+ *
+ * Allocation is read from the servlet thread, so work handed to other threads by async
+ * or streaming endpoints is not included.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+public class RequestMetricsFilter extends OncePerRequestFilter {
+
+    /** Route name for requests served before handler mapping, set by filters such as the page cache */
+    public static final String ROUTE_ATTRIBUTE = RequestMetricsFilter.class.getName() + ".route";
+    static final String TIMINGS_ATTRIBUTE = RequestMetricsFilter.class.getName() + ".timings";
+
+    private static final String UNMAPPED = "UNMAPPED";
+    private static final String SLUG_VARIABLE = "{slug}";
+
+    private final MeterRegistry meterRegistry;
+    private final CalculatorRegistry calculatorRegistry;
+    private final com.sun.management.ThreadMXBean threads;
+    private final Map<String, RouteMeters> routes = new ConcurrentHashMap<>();
+
+    public RequestMetricsFilter(MeterRegistry meterRegistry, CalculatorRegistry calculatorRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.calculatorRegistry = calculatorRegistry;
+        ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        this.threads = bean instanceof com.sun.management.ThreadMXBean sun && sun.isThreadAllocatedMemorySupported()
+                && sun.isThreadAllocatedMemoryEnabled() ? sun : null;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        long allocatedBefore = threads != null ? threads.getCurrentThreadAllocatedBytes() : 0;
+        Timings timings = new Timings(System.nanoTime());
+        request.setAttribute(TIMINGS_ATTRIBUTE, timings);
+        try {
+            chain.doFilter(request, response);
+            if (!request.isAsyncStarted()) {
+                response.flushBuffer();
+            }
+        } finally {
+            long end = System.nanoTime();
+            RouteMeters meters = routes.computeIfAbsent(route(request), this::createMeters);
+            if (timings.handlerStart != 0) {
+                long handlerEnd = timings.handlerEnd != 0 ? timings.handlerEnd : timings.completed;
+                meters.model.record(handlerEnd - timings.handlerStart, TimeUnit.NANOSECONDS);
+                if (timings.handlerEnd != 0 && timings.completed != 0) {
+                    meters.render.record(timings.completed - timings.handlerEnd, TimeUnit.NANOSECONDS);
+                }
+            }
+            long writeStart = timings.completed != 0 ? timings.completed : timings.start;
+            meters.write.record(end - writeStart, TimeUnit.NANOSECONDS);
+            if (threads != null) {
+                meters.allocated.record(threads.getCurrentThreadAllocatedBytes() - allocatedBefore);
+            }
+        }
+    }
+
+    private String route(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        if (pattern != null) {
+            return withSlug(pattern.toString(), request);
+        }
+        Object route = request.getAttribute(ROUTE_ATTRIBUTE);
+        return route != null ? route.toString() : UNMAPPED;
+    }
+
+    private String withSlug(String pattern, HttpServletRequest request) {
+        if (!pattern.contains(SLUG_VARIABLE)) {
+            return pattern;
+        }
+        @SuppressWarnings("unchecked")
+        Map<String, String> variables = (Map<String, String>) request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE);
+        String slug = variables != null ? variables.get("slug") : null;
+        return slug != null && calculatorRegistry.find(slug) != null ? pattern.replace(SLUG_VARIABLE, slug) : pattern;
+    }
+
+    private RouteMeters createMeters(String route) {
+        return new RouteMeters(phase(route, "model"), phase(route, "render"), phase(route, "write"),
+                DistributionSummary.builder("calculators.request.allocated")
+                        .description("Bytes allocated by the request thread")
+                        .baseUnit("bytes")
+                        .tag("route", route)
+                        .publishPercentiles(0.5, 0.99)
+                        .register(meterRegistry));
+    }
+
+    private Timer phase(String route, String phase) {
+        return Timer.builder("calculators.request.phase")
+                .description("Time spent in each phase of a request")
+                .tag("route", route)
+                .tag("phase", phase)
+                .publishPercentiles(0.5, 0.9, 0.99)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    private record RouteMeters(Timer model, Timer render, Timer write, DistributionSummary allocated) {}
+
+    /**
+     * Phase boundaries of one request in {@link System#nanoTime()} units, 0 when not reached
+     */
+    static final class Timings {
+        final long start;
+        long handlerStart;
+        long handlerEnd;
+        long completed;
+
+        Timings(long start) {
+            this.start = start;
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.calculators.web;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.ModelAndView;
+
+/**
+ * Marks the handler and rendering phase boundaries for {@link RequestMetricsFilter}
+ */
+@Component
+public class RequestMetricsInterceptor implements HandlerInterceptor {
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        RequestMetricsFilter.Timings timings = timings(request);
+        if (timings != null) {
+            timings.handlerStart = System.nanoTime();
+        }
+        return true;
+    }
+
+    @Override
+    public void postHandle(HttpServletRequest request, HttpServletResponse response, Object handler,
+                           ModelAndView modelAndView) {
+        RequestMetricsFilter.Timings timings = timings(request);
+        if (timings != null) {
+            timings.handlerEnd = System.nanoTime();
+        }
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                Exception ex) {
+        RequestMetricsFilter.Timings timings = timings(request);
+        if (timings != null) {
+            timings.completed = System.nanoTime();
+        }
+    }
+
+    private static RequestMetricsFilter.Timings timings(HttpServletRequest request) {
+        return (RequestMetricsFilter.Timings) request.getAttribute(RequestMetricsFilter.TIMINGS_ATTRIBUTE);
+    }
+}
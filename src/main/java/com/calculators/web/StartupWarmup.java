@@ -0,0 +1,96 @@
+package com.calculators.web;
+
+import com.calculators.config.CalculatorRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Warms a fresh instance up before it reports itself ready.
+ *
+ * Spring Boot only moves the readiness probe to {@code ACCEPTING_TRAFFIC} once every
+ * {@link ApplicationRunner} has returned, so load balancers keep sending traffic to the
+ * old instances while this runs. Every page route of {@code HomeController} and
+ * {@code CalculatorController} is fetched over loopback: the first request parses and
+ * caches the route's templates and fills the page cache, and the remaining
+ * {@code app.warmup.iterations - 1} go past the page cache with a query string, so the
+ * JIT compiles the handler, model and rendering code before real users hit it. A route
+ * that fails is reported once and not retried. Skipped without a web server, as in the
+ * benchmarks, or with {@code app.warmup.iterations=0}.
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class StartupWarmup implements ApplicationRunner {
+
+    private static final String BYPASS_PAGE_CACHE = "?warmup";
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private final CalculatorRegistry calculatorRegistry;
+    private final Environment environment;
+    private final int iterations;
+
+    public StartupWarmup(CalculatorRegistry calculatorRegistry, Environment environment,
+                         @Value("${app.warmup.iterations:50}") int iterations) {
+        this.calculatorRegistry = calculatorRegistry;
+        this.environment = environment;
+        this.iterations = iterations;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws InterruptedException {
+        String port = environment.getProperty("local.server.port");
+        if (port == null || iterations <= 0) {
+            return;
+        }
+        String baseUrl = "http://localhost:" + port;
+        List<String> routes = new ArrayList<>(calculatorRegistry.getPageRoutes());
+        long started = System.nanoTime();
+        int requests = 0;
+        try (HttpClient client = HttpClient.newHttpClient()) {
+            for (int i = 0; i < iterations && !routes.isEmpty(); i++) {
+                String query = i == 0 ? "" : BYPASS_PAGE_CACHE;
+                for (Iterator<String> it = routes.iterator(); it.hasNext(); ) {
+                    String route = it.next();
+                    requests++;
+                    int status = fetch(client, baseUrl + route + query);
+                    if (status != 200) {
+                        log.warn("Not warming up {}: HTTP {}", route, status);
+                        it.remove();
+                    }
+                }
+            }
+        }
+        log.info("Warmed up {} of {} routes with {} requests in {} ms", routes.size(),
+                calculatorRegistry.getPageRoutes().size(), requests,
+                Duration.ofNanos(System.nanoTime() - started).toMillis());
+    }
+
+    /**
+     * @return the response status, or -1 if the request failed
+     */
+    private static int fetch(HttpClient client, String url) throws InterruptedException {
+        try {
+            HttpRequest request = HttpRequest.newBuilder(URI.create(url)).timeout(REQUEST_TIMEOUT).build();
+            return client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+        } catch (IOException e) {
+            log.warn("Warmup request to {} failed: {}", url, e.getMessage());
+            return -1;
+        }
+    }
+}
@@ -0,0 +1,164 @@
+package com.calculators.web;
+
+import com.calculators.config.CalculatorRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.env.Environment;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Prerenders the whole site to static files, for serving from nginx or a CDN.
+ *
+ * Runs when {@code app.export.output-dir} is set. The bean always exists, rather than
+ * being conditional, so AOT-processed builds can still export. Once the server is up, every page
+ * route plus sitemap.xml and robots.txt is fetched over loopback, so the files are
+ * byte-for-byte what the app would serve, and written as {@code route/index.html}.
+ * Fingerprinted assets and bundles follow under their hashed and logical paths. Files
+ * that compress well get a {@code .gz} sibling (and {@code .br} when one was shipped)
+ * for the web server's precompressed-file support. With {@code app.export.exit} the
+ * application stops afterwards, exiting non-zero if any route failed.
+ */
+@Slf4j
+@Component
+public class StaticSiteExporter implements ApplicationRunner {
+
+    private static final List<String> SITE_FILES = List.of("/sitemap.xml", "/robots.txt");
+
+    private final CalculatorRegistry calculatorRegistry;
+    private final AssetPipeline assetPipeline;
+    private final ConfigurableApplicationContext context;
+    private final Environment environment;
+    private final Path outputDir;
+    private final boolean exit;
+
+    public StaticSiteExporter(CalculatorRegistry calculatorRegistry, AssetPipeline assetPipeline,
+                              ConfigurableApplicationContext context, Environment environment,
+                              @Value("${app.export.output-dir:}") String outputDir,
+                              @Value("${app.export.exit:false}") boolean exit) {
+        this.calculatorRegistry = calculatorRegistry;
+        this.assetPipeline = assetPipeline;
+        this.context = context;
+        this.environment = environment;
+        this.outputDir = outputDir.isBlank() ? null : Path.of(outputDir).toAbsolutePath().normalize();
+        this.exit = exit;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        if (outputDir == null) {
+            return;
+        }
+        List<String> failures = export();
+        if (exit) {
+            int code = SpringApplication.exit(context, () -> failures.isEmpty() ? 0 : 1);
+            System.exit(code);
+        }
+    }
+
+    /**
+     * @return the routes that could not be exported
+     */
+    public List<String> export() throws IOException, InterruptedException {
+        String baseUrl = "http://localhost:" + environment.getRequiredProperty("local.server.port");
+        List<String> routes = new ArrayList<>(calculatorRegistry.getPageRoutes());
+        routes.addAll(SITE_FILES);
+
+        List<String> failures = new ArrayList<>();
+        try (HttpClient client = HttpClient.newHttpClient()) {
+            for (String route : routes) {
+                HttpResponse<byte[]> response = client.send(
+                        HttpRequest.newBuilder(URI.create(baseUrl + route)).header("Accept-Encoding", "identity").build(),
+                        HttpResponse.BodyHandlers.ofByteArray());
+                if (response.statusCode() != 200) {
+                    log.warn("Skipping {}: HTTP {}", route, response.statusCode());
+                    failures.add(route);
+                    continue;
+                }
+                String contentType = response.headers().firstValue("Content-Type").orElse("text/html");
+                write(fileFor(route), new CompressedContent(contentType, response.body(), true, null));
+            }
+        }
+
+        int assets = assetPipeline.isEnabled() ? writeAssets() : copyStaticResources();
+        log.info("Exported {} routes and {} asset files to {} ({} failed)",
+                routes.size() - failures.size(), assets, outputDir, failures.size());
+        return failures;
+    }
+
+    private int writeAssets() throws IOException {
+        int files = 0;
+        for (AssetPipeline.Asset asset : assetPipeline.getAssets()) {
+            write(asset.hashedPath(), asset.content());
+            write(asset.logicalPath(), asset.content());
+            files += 2;
+        }
+        return files;
+    }
+
+    /**
+     * Without fingerprinting the pages link to the files as they are
+     */
+    private int copyStaticResources() throws IOException {
+        PathMatchingResourcePatternResolver resolver = new PathMatchingResourcePatternResolver();
+        int files = 0;
+        for (Resource root : resolver.getResources("classpath*:static/")) {
+            String rootUrl = root.getURL().toString();
+            for (Resource resource : resolver.getResources(rootUrl + "**/*")) {
+                String url = resource.getURL().toString();
+                if (resource.isReadable() && !url.endsWith("/")) {
+                    try (InputStream in = resource.getInputStream()) {
+                        Path target = resolve(url.substring(rootUrl.length()));
+                        Files.createDirectories(target.getParent());
+                        Files.write(target, in.readAllBytes());
+                        files++;
+                    }
+                }
+            }
+        }
+        return files;
+    }
+
+    private static String fileFor(String route) {
+        if (route.endsWith("/")) {
+            return route + "index.html";
+        }
+        return route.lastIndexOf('.') > route.lastIndexOf('/') ? route : route + "/index.html";
+    }
+
+    private void write(String path, CompressedContent content) throws IOException {
+        Path target = resolve(path);
+        Files.createDirectories(target.getParent());
+        Files.write(target, content.getIdentity());
+        if (content.getGzip() != null && content.getGzip().length < content.getIdentity().length) {
+            Files.write(target.resolveSibling(target.getFileName() + ".gz"), content.getGzip());
+        }
+        if (content.getBrotli() != null) {
+            Files.write(target.resolveSibling(target.getFileName() + ".br"), content.getBrotli());
+        }
+    }
+
+    private Path resolve(String path) {
+        Path target = outputDir.resolve(path.startsWith("/") ? path.substring(1) : path).normalize();
+        if (!target.startsWith(outputDir)) {
+            throw new IllegalArgumentException("Path escapes the output directory: " + path);
+        }
+        return target;
+    }
+}
@@ -0,0 +1,118 @@
+// Live amortization schedule for the mortgage and loan calculators.
+// Usage: <div x-data="amortizationSession('mortgage', inputs)"> and call edit() whenever an input
+// changes. The server keeps the schedule and only sends the rows an edit changed.
+document.addEventListener('alpine:init', () => {
+    Alpine.data('amortizationSession', (calculator, inputs = {}) => ({
+        inputs: Object.assign({}, inputs),
+        rows: [],
+        summary: null,
+        error: null,
+        id: null,
+        revision: -1,
+        source: null,
+        pending: null,
+
+        async init() {
+            const response = await fetch(`/calculators/${calculator}/sessions`, {
+                method: 'POST',
+                body: this.params()
+            });
+            if (!response.ok) {
+                this.error = 'The schedule could not be calculated. Please check your inputs and try again.';
+                return;
+            }
+            const snapshot = await response.json();
+            this.id = snapshot.session;
+            this.apply(snapshot);
+            this.listen();
+        },
+
+        params() {
+            const params = new URLSearchParams();
+            Object.entries(this.inputs).forEach(([key, value]) => {
+                if (value !== null && value !== '') {
+                    params.set(key, value);
+                }
+            });
+            return params;
+        },
+
+        listen() {
+            this.source = new EventSource(`/calculators/${calculator}/sessions/${this.id}/events`);
+            const update = event => this.apply(JSON.parse(event.data));
+            this.source.addEventListener('schedule', update);
+            this.source.addEventListener('update', update);
+            this.source.onerror = () => {
+                // EventSource reconnects on its own and receives a fresh schedule event
+                if (this.source && this.source.readyState === EventSource.CLOSED) {
+                    this.source = null;
+                }
+            };
+        },
+
+        // Coalesce bursts of slider events into one request per animation frame
+        edit() {
+            if (this.pending || !this.id) {
+                return;
+            }
+            this.pending = requestAnimationFrame(async () => {
+                this.pending = null;
+                const response = await fetch(`/calculators/${calculator}/sessions/${this.id}`, {
+                    method: 'POST',
+                    body: this.params()
+                });
+                if (response.status === 404) {
+                    // The session expired while the page was idle; start a new one
+                    this.close();
+                    this.init();
+                } else {
+                    this.error = response.ok ? null : 'Please check your inputs.';
+                }
+            });
+        },
+
+        apply(update) {
+            if (!update.snapshot && update.revision <= this.revision) {
+                return;
+            }
+            this.revision = update.revision;
+            if (update.snapshot) {
+                this.rows = [];
+            }
+            update.month.forEach((month, i) => {
+                this.rows[month - 1] = {
+                    month,
+                    payment: update.payment[i],
+                    principal: update.principal[i],
+                    interest: update.interest[i],
+                    extra: update.extra[i],
+                    tax: update.tax[i],
+                    insurance: update.insurance[i],
+                    pmi: update.pmi[i],
+                    total: update.total[i],
+                    balance: update.balance[i]
+                };
+            });
+            this.rows.length = update.summary.payoffMonths;
+            this.summary = update.summary;
+        },
+
+        close() {
+            if (this.source) {
+                this.source.close();
+                this.source = null;
+            }
+            this.id = null;
+        },
+
+        destroy() {
+            if (this.id) {
+                fetch(`/calculators/${calculator}/sessions/${this.id}`, {
+                    method: 'DELETE',
+                    keepalive: true
+                });
+            }
+            this.close();
+        }
+    }));
+});
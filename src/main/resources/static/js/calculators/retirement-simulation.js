@@ -0,0 +1,97 @@
+// Monte Carlo mode for the retirement calculator.
+// Usage: <div x-data="retirementSimulation(inputs)"> with a <canvas x-ref="chart">,
+// where inputs holds the same fields as the deterministic projection.
+document.addEventListener('alpine:init', () => {
+    Alpine.data('retirementSimulation', (inputs = {}) => ({
+        inputs: Object.assign({ paths: 20000, expectedReturn: 7, volatility: 15 }, inputs),
+        running: false,
+        progress: 0,
+        successRate: null,
+        error: null,
+        source: null,
+
+        run() {
+            this.stop();
+            const params = new URLSearchParams();
+            Object.entries(this.inputs).forEach(([key, value]) => {
+                if (value !== null && value !== '') {
+                    params.set(key, value);
+                }
+            });
+
+            this.running = true;
+            this.error = null;
+            this.progress = 0;
+            this.source = new EventSource('/calculators/retirement/simulation/stream?' + params);
+            const update = event => {
+                const snapshot = JSON.parse(event.data);
+                this.progress = snapshot.completedPaths / snapshot.totalPaths * 100;
+                this.successRate = snapshot.successRate * 100;
+                this.draw(snapshot);
+            };
+            this.source.addEventListener('progress', update);
+            this.source.addEventListener('complete', event => {
+                update(event);
+                this.stop();
+            });
+            this.source.onerror = () => {
+                if (this.running) {
+                    this.error = 'The simulation could not be completed. Please check your inputs and try again.';
+                }
+                this.stop();
+            };
+        },
+
+        stop() {
+            if (this.source) {
+                this.source.close();
+                this.source = null;
+            }
+            this.running = false;
+        },
+
+        // Fan chart: 10-90 and 25-75 percentile bands around the median
+        draw(snapshot) {
+            const canvas = this.$refs.chart;
+            if (!canvas) {
+                return;
+            }
+            const ratio = window.devicePixelRatio || 1;
+            const width = canvas.clientWidth;
+            const height = canvas.clientHeight;
+            canvas.width = width * ratio;
+            canvas.height = height * ratio;
+            const ctx = canvas.getContext('2d');
+            ctx.scale(ratio, ratio);
+            ctx.clearRect(0, 0, width, height);
+
+            const n = snapshot.ages.length;
+            const max = Math.max(...snapshot.p90) || 1;
+            const x = i => i / Math.max(1, n - 1) * width;
+            const y = value => height - value / max * height;
+
+            const band = (lower, upper, color) => {
+                ctx.beginPath();
+                upper.forEach((value, i) => i === 0 ? ctx.moveTo(x(i), y(value)) : ctx.lineTo(x(i), y(value)));
+                for (let i = n - 1; i >= 0; i--) {
+                    ctx.lineTo(x(i), y(lower[i]));
+                }
+                ctx.closePath();
+                ctx.fillStyle = color;
+                ctx.fill();
+            };
+            band(snapshot.p10, snapshot.p90, 'rgba(59, 130, 246, 0.15)');
+            band(snapshot.p25, snapshot.p75, 'rgba(59, 130, 246, 0.3)');
+
+            ctx.beginPath();
+            snapshot.p50.forEach((value, i) => i === 0 ? ctx.moveTo(x(i), y(value)) : ctx.lineTo(x(i), y(value)));
+            ctx.strokeStyle = 'rgb(37, 99, 235)';
+            ctx.lineWidth = 2;
+            ctx.stroke();
+        },
+
+        destroy() {
+            this.stop();
+        }
+    }));
+});
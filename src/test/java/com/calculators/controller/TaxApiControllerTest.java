@@ -0,0 +1,59 @@
+package com.calculators.controller;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.startsWith;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class TaxApiControllerTest {
+
+    private MockMvc mvc;
+
+    @BeforeEach
+    void setUp() {
+        mvc = MockMvcBuilders.standaloneSetup(new TaxApiController()).build();
+    }
+
+    @Test
+    void csvUploadIsComputedRowByRow() throws Exception {
+        mvc.perform(post("/calculators/tax/bulk").contentType("text/csv")
+                        .content("\uFEFFid,Wages,filingStatus\n\"a,1\",65750,\n b ,,single\n"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith("text/csv"))
+                .andExpect(content().string(startsWith(
+                        "row,id,filingStatus,taxableIncome,federalTax,marginalRate,socialSecurity,medicare,"
+                                + "stateTax,totalTax,effectiveRate,netIncome,error\n"
+                                + "1,\"a,1\",single,50000.00,5914.00,22,4076.50,953.38,0.00,10943.88,16.64,54806.12,\n")))
+                .andExpect(content().string(containsString("\n2, b ,,,,,,,,,,,wages is required\n")));
+    }
+
+    @Test
+    void uploadWithoutWagesColumnIsRejected() throws Exception {
+        mvc.perform(post("/calculators/tax/bulk").contentType("text/csv").content("id,salary\n1,50000\n"))
+                .andExpect(status().isBadRequest())
+                .andExpect(status().reason("Missing required column: wages"));
+    }
+
+    @Test
+    void malformedJsonBeforeAnyRowIsRejected() throws Exception {
+        mvc.perform(post("/calculators/tax/bulk").contentType("application/x-ndjson").content("{\"wages\":"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void malformedJsonAfterRowsEndsWithAnErrorRow() throws Exception {
+        mvc.perform(post("/calculators/tax/bulk").contentType("application/x-ndjson")
+                        .content("{\"wages\":60000}\n{\"wages\":"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("\"row\":1,")))
+                .andExpect(content().string(containsString(
+                        "{\"row\":2,\"id\":null,\"filingStatus\":null")))
+                .andExpect(content().string(containsString("\"error\":\"Malformed JSON at line 2")));
+    }
+}
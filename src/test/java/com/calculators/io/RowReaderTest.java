@@ -0,0 +1,129 @@
+package com.calculators.io;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RowReaderTest {
+
+    private static final String[] COLUMNS = {"id", "name", "wages"};
+    private static final int ID = 0;
+    private static final int NAME = 1;
+    private static final int WAGES = 2;
+
+    @Test
+    void csvSkipsByteOrderMark() throws IOException {
+        try (RowReader reader = csv("\uFEFFid,wages\n1,50000\n")) {
+            reader.require(WAGES);
+            assertThat(reader.next()).isTrue();
+            assertThat(reader.getDouble(WAGES, -1)).isEqualTo(50_000);
+            assertThat(text(reader, ID)).isEqualTo("1");
+            assertThat(reader.next()).isFalse();
+        }
+    }
+
+    @Test
+    void csvMatchesHeaderIgnoringCaseOrderAndSpaces() throws IOException {
+        try (RowReader reader = csv(" WAGES ,extra,Id\r\n60000,x,7\r\n")) {
+            assertThat(reader.next()).isTrue();
+            assertThat(reader.getDouble(WAGES, -1)).isEqualTo(60_000);
+            assertThat(text(reader, ID)).isEqualTo("7");
+            assertThat(reader.has(NAME)).isFalse();
+        }
+    }
+
+    @Test
+    void csvUnquotesFields() throws IOException {
+        try (RowReader reader = csv("id,name,wages\n1,\"Smith, \"\"Jr\"\"\",\"42.5\"\n2,\"two\nlines\",\n")) {
+            assertThat(reader.next()).isTrue();
+            assertThat(text(reader, NAME)).isEqualTo("Smith, \"Jr\"");
+            assertThat(reader.getDouble(WAGES, -1)).isEqualTo(42.5);
+
+            assertThat(reader.next()).isTrue();
+            assertThat(reader.getRowNumber()).isEqualTo(2);
+            assertThat(text(reader, NAME)).isEqualTo("two\nlines");
+            assertThat(reader.has(WAGES)).isFalse();
+            assertThat(reader.getDouble(WAGES, -1)).isEqualTo(-1);
+            assertThat(reader.next()).isFalse();
+        }
+    }
+
+    @Test
+    void missingRequiredColumnIsRejected() throws IOException {
+        try (RowReader reader = csv("id,salary\n1,50000\n")) {
+            reader.require(WAGES);
+            assertThatThrownBy(reader::next)
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessage("Missing required column: wages");
+            assertThat(reader.getRowNumber()).isZero();
+        }
+        try (RowReader reader = ndjson("{\"id\":1,\"salary\":50000}\n")) {
+            reader.require(WAGES);
+            assertThatThrownBy(reader::next).hasMessage("Missing required column: wages");
+        }
+    }
+
+    @Test
+    void requiredColumnMayBeEmptyOnLaterRows() throws IOException {
+        try (RowReader reader = ndjson("{\"wages\":1}\n{\"id\":2}\n")) {
+            reader.require(WAGES);
+            assertThat(reader.next()).isTrue();
+            assertThat(reader.next()).isTrue();
+            assertThat(reader.has(WAGES)).isFalse();
+        }
+    }
+
+    @Test
+    void jsonArrayReadsLikeNdjson() throws IOException {
+        try (RowReader reader = RowReader.open(DataFormat.JSON, input("[{\"wages\":1},{\"wages\":\"2.5\"}]"), COLUMNS)) {
+            assertThat(reader.next()).isTrue();
+            assertThat(reader.getDouble(WAGES, -1)).isEqualTo(1);
+            assertThat(reader.next()).isTrue();
+            assertThat(reader.getDouble(WAGES, -1)).isEqualTo(2.5);
+            assertThat(reader.next()).isFalse();
+        }
+    }
+
+    @Test
+    void malformedJsonIsAnIllegalArgument() throws IOException {
+        try (RowReader reader = ndjson("{\"wages\":1}\n{\"wages\":")) {
+            assertThat(reader.next()).isTrue();
+            assertThatThrownBy(reader::next)
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageStartingWith("Malformed JSON at line 2");
+            assertThat(reader.getRowNumber()).isEqualTo(1);
+        }
+    }
+
+    private static RowReader csv(String content) throws IOException {
+        return RowReader.open(DataFormat.CSV, input(content), COLUMNS);
+    }
+
+    private static RowReader ndjson(String content) throws IOException {
+        return RowReader.open(DataFormat.NDJSON, input(content), COLUMNS);
+    }
+
+    private static ByteArrayInputStream input(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * The column's text as copied into an NDJSON record
+     */
+    private static String text(RowReader reader, int column) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        RecordWriter writer = new RecordWriter(out, DataFormat.NDJSON, "v");
+        writer.beginRecord();
+        reader.copyText(column, writer);
+        writer.endRecord();
+        writer.finish();
+        return new ObjectMapper().readTree(out.toByteArray()).get("v").asText();
+    }
+}
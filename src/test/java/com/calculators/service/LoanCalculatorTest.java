@@ -0,0 +1,44 @@
+package com.calculators.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LoanCalculatorTest {
+
+    @Test
+    void finalPaymentAbsorbsRoundingAtZeroInterest() {
+        LoanResult result = LoanCalculator.evaluate(0, scenario(1000, 0, 3, 0));
+
+        assertThat(result.getMonthlyPayment()).isEqualTo(333.33);
+        assertThat(result.getTotalInterest()).isEqualTo(0.0);
+        assertThat(result.getApr()).isEqualTo(0.0);
+    }
+
+    @Test
+    void aprEqualsNominalRateWithoutFees() {
+        for (double rate : new double[]{0.5, 3.25, 7, 12.99, 29.9}) {
+            assertThat(LoanCalculator.evaluate(0, scenario(25_000, rate, 60, 0)).getApr()).isEqualTo(rate);
+        }
+    }
+
+    @Test
+    void interestMatchesTheAmortizationSchedule() {
+        LoanResult result = LoanCalculator.evaluate(0, scenario(25_000, 7, 60, 500));
+
+        assertThat(result.getMonthlyPayment()).isEqualTo(495.03);
+        assertThat(result.getTotalInterest()).isEqualTo(4701.82);
+        assertThat(result.getTotalCost()).isEqualTo(5201.82);
+        assertThat(result.getApr()).isGreaterThan(7.0);
+    }
+
+    private static LoanScenario scenario(double amount, double rate, int months, double fees) {
+        LoanScenario scenario = new LoanScenario();
+        scenario.setName("loan");
+        scenario.setAmount(amount);
+        scenario.setInterestRate(rate);
+        scenario.setTermMonths(months);
+        scenario.setFees(fees);
+        return scenario;
+    }
+}
@@ -0,0 +1,101 @@
+package com.calculators.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MoneyTest {
+
+    private static final RoundingMode[] MODES = {
+            RoundingMode.UP, RoundingMode.DOWN, RoundingMode.CEILING, RoundingMode.FLOOR,
+            RoundingMode.HALF_UP, RoundingMode.HALF_DOWN, RoundingMode.HALF_EVEN
+    };
+
+    @Test
+    void mulDivMatchesBigDecimalIncludingNegatives() {
+        SplittableRandom random = new SplittableRandom(42);
+        for (int i = 0; i < 20_000; i++) {
+            long a = random.nextLong(-100_000_000_000L, 100_000_000_000L);
+            long b = random.nextLong(-200_000_000_000L, 200_000_000_000L);
+            long divisor = i % 2 == 0 ? Money.RATE_ONE : random.nextLong(1, 1_000_000_000_000L);
+            for (RoundingMode mode : MODES) {
+                assertThat(Money.mulDiv(a, b, divisor, mode))
+                        .as("%d * %d / %d %s", a, b, divisor, mode)
+                        .isEqualTo(expected(a, b, divisor, mode));
+            }
+        }
+    }
+
+    @Test
+    void mulDivRoundsExactTiesLikeBigDecimal() {
+        for (long a : new long[]{5, 15, 25, -5, -15, -25}) {
+            for (RoundingMode mode : MODES) {
+                assertThat(Money.mulDiv(a, 1, 10, mode)).as("%d / 10 %s", a, mode).isEqualTo(expected(a, 1, 10, mode));
+            }
+        }
+    }
+
+    @Test
+    void applyRateRoundsInterestToCents() {
+        long balance = Money.ofDollars(320_000);
+        long monthlyRate = Money.divide(Money.rateOfPercent(6.5), 12, RoundingMode.HALF_EVEN);
+
+        long expected = BigDecimal.valueOf(balance).multiply(BigDecimal.valueOf(monthlyRate, Money.RATE_SCALE))
+                .setScale(0, RoundingMode.HALF_UP).longValueExact();
+        assertThat(Money.applyRate(balance, monthlyRate, RoundingMode.HALF_UP)).isEqualTo(expected);
+        assertThat(Money.applyRate(-balance, monthlyRate, RoundingMode.HALF_UP)).isEqualTo(-expected);
+    }
+
+    @Test
+    void conversionsRoundTheDecimalAsTyped() {
+        assertThat(Money.ofDollars(0.1 + 0.2)).isEqualTo(30);
+        assertThat(Money.ofDollars(-1234.05)).isEqualTo(-123_405);
+        assertThat(Money.format(-123_405)).isEqualTo("-1234.05");
+        assertThat(Money.format(5)).isEqualTo("0.05");
+        assertThat(Money.rateOfPercent(6.5)).isEqualTo(65_000_000_000L);
+    }
+
+    @Test
+    void annuityPaymentMatchesTheClosedForm() {
+        long principal = Money.ofDollars(320_000);
+        long monthlyRate = Money.divide(Money.rateOfPercent(6.5), 12, RoundingMode.HALF_EVEN);
+
+        assertThat(Money.annuityPayment(principal, monthlyRate, 360, RoundingMode.HALF_UP)).isEqualTo(202_262);
+        assertThat(Money.annuityPayment(100_000, 0, 3, RoundingMode.HALF_UP)).isEqualTo(33_333);
+    }
+
+    @Test
+    void overflowThrowsInsteadOfWrapping() {
+        assertThatThrownBy(() -> Money.mulDiv(Long.MAX_VALUE, 2, 1, RoundingMode.HALF_UP))
+                .isInstanceOf(ArithmeticException.class);
+        assertThatThrownBy(() -> Money.mulDiv(Long.MIN_VALUE, 1, 1, RoundingMode.HALF_UP))
+                .isInstanceOf(ArithmeticException.class);
+        assertThatThrownBy(() -> Money.mulDiv(Long.MAX_VALUE, 3, 2, RoundingMode.UP))
+                .isInstanceOf(ArithmeticException.class);
+        assertThatThrownBy(() -> Money.multiply(Long.MAX_VALUE / 2, 3)).isInstanceOf(ArithmeticException.class);
+        assertThatThrownBy(() -> Money.add(Long.MAX_VALUE, 1)).isInstanceOf(ArithmeticException.class);
+        assertThatThrownBy(() -> Money.ofDollars(1e30)).isInstanceOf(ArithmeticException.class);
+        assertThatThrownBy(() -> Money.ofDollars(Double.NaN)).isInstanceOf(ArithmeticException.class);
+        assertThatThrownBy(() -> Money.divide(1, 0, RoundingMode.HALF_UP)).isInstanceOf(ArithmeticException.class);
+    }
+
+    @Test
+    void largestProductsStillDivideExactly() {
+        long a = Long.MAX_VALUE;
+        long b = Money.RATE_ONE - 1;
+        assertThat(Money.mulDiv(a, b, Money.RATE_ONE, RoundingMode.DOWN))
+                .isEqualTo(expected(a, b, Money.RATE_ONE, RoundingMode.DOWN));
+    }
+
+    private static long expected(long a, long b, long divisor, RoundingMode mode) {
+        return new BigDecimal(BigInteger.valueOf(a).multiply(BigInteger.valueOf(b)))
+                .divide(BigDecimal.valueOf(divisor), 0, mode)
+                .longValueExact();
+    }
+}
@@ -0,0 +1,102 @@
+package com.calculators.service;
+
+import com.calculators.config.InputField;
+import org.junit.jupiter.api.Test;
+
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PermalinkCodecTest {
+
+    private static final List<InputField> FIELDS = List.of(
+            InputField.money("amount", 20_000),
+            InputField.rate("interestRate", 7.5),
+            InputField.integer("termMonths", 60),
+            InputField.number("height", 170),
+            InputField.choice("frequency", "monthly", "biweekly", "weekly"),
+            InputField.text("from", "m")
+    );
+
+    @Test
+    void defaultsEncodeToAnEmptyMaskAndDecodeBack() {
+        String token = PermalinkCodec.encode(FIELDS, Map.of());
+
+        assertThat(token).isEqualTo("AQA");
+        assertThat(PermalinkCodec.decode(FIELDS, token)).isEqualTo(PermalinkCodec.defaults(FIELDS));
+    }
+
+    @Test
+    void changedValuesRoundTrip() {
+        Map<String, Object> values = new HashMap<>();
+        values.put("amount", 123_456.78);
+        values.put("interestRate", "6.125");
+        values.put("termMonths", 360);
+        values.put("height", -12.5);
+        values.put("frequency", "Weekly");
+        values.put("from", "ft");
+
+        Map<String, Object> decoded = PermalinkCodec.decode(FIELDS, PermalinkCodec.encode(FIELDS, values));
+
+        assertThat(decoded).containsEntry("amount", 123_456.78)
+                .containsEntry("interestRate", 6.125)
+                .containsEntry("termMonths", 360)
+                .containsEntry("height", -12.5)
+                .containsEntry("frequency", "weekly")
+                .containsEntry("from", "ft");
+    }
+
+    @Test
+    void valuesAreQuantizedToTheFieldScale() {
+        Map<String, Object> decoded = PermalinkCodec.decode(FIELDS,
+                PermalinkCodec.encode(FIELDS, Map.of("amount", 10.005, "interestRate", 6.12345)));
+
+        assertThat(decoded).containsEntry("amount", 10.01).containsEntry("interestRate", 6.1235);
+    }
+
+    @Test
+    void invalidValuesAreRejectedWhenEncoding() {
+        assertThatThrownBy(() -> PermalinkCodec.encode(FIELDS, Map.of("frequency", "daily")))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> PermalinkCodec.encode(FIELDS, Map.of("amount", "lots")))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> PermalinkCodec.encode(FIELDS, Map.of("from", "<script>")))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> PermalinkCodec.encode(FIELDS, Map.of("amount", 1e300)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void badTokensAreRejected() {
+        String valid = PermalinkCodec.encode(FIELDS, Map.of("amount", 5000, "from", "ft"));
+
+        assertRejected("not base64!");
+        assertRejected(valid.substring(0, valid.length() - 2));
+        assertRejected(encode(2, 0));
+        assertRejected(encode(1, 1 << 6));
+        assertRejected(encode(1, 0, 0));
+        assertRejected(encode(1, 1 << 4, 3));
+        assertRejected(encode(1, 1 << 5, 40));
+        assertRejected(encode(1, 1 << 2, 0xFF, 0xFF, 0xFF, 0xFF, 0x7F));
+        assertRejected(encode(1, 0x80, 0x80, 0x80, 0x80, 0x80, 0x80, 0x80, 0x80, 0x80, 0x80));
+        assertRejected("A".repeat(600));
+    }
+
+    private static void assertRejected(String token) {
+        assertThatThrownBy(() -> PermalinkCodec.decode(FIELDS, token))
+                .as(token)
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static String encode(int... bytes) {
+        byte[] raw = new byte[bytes.length];
+        for (int i = 0; i < bytes.length; i++) {
+            raw[i] = (byte) bytes[i];
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw);
+    }
+}
@@ -0,0 +1,115 @@
+package com.calculators.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ScheduleSessionTest {
+
+    @Test
+    void firstDifferentMonthFollowsTheEditedInput() {
+        AmortizationTerms base = terms(inputs -> {
+            inputs.setExtraOneTime(10_000);
+            inputs.setExtraOneTimeMonth(120);
+        });
+
+        assertThat(base.firstDifferentMonth(base)).isZero();
+        assertThat(base.firstDifferentMonth(terms(inputs -> {
+            inputs.setExtraOneTime(10_000);
+            inputs.setExtraOneTimeMonth(130);
+        }))).isEqualTo(120);
+        assertThat(base.firstDifferentMonth(terms(inputs -> {
+            inputs.setExtraOneTime(10_000);
+            inputs.setExtraOneTimeMonth(60);
+        }))).isEqualTo(60);
+        assertThat(base.firstDifferentMonth(terms(inputs -> {
+            inputs.setExtraOneTime(10_000);
+            inputs.setExtraOneTimeMonth(120);
+            inputs.setExtraYearly(1_000);
+        }))).isEqualTo(12);
+        assertThat(base.firstDifferentMonth(terms(inputs -> {
+            inputs.setExtraOneTime(10_000);
+            inputs.setExtraOneTimeMonth(120);
+            inputs.setInterestRate(6.75);
+        }))).isEqualTo(1);
+    }
+
+    @Test
+    void movingOneTimeExtraOnlyReportsLaterRows() {
+        ScheduleSession session = new ScheduleSession("s", "mortgage", terms(inputs -> {
+            inputs.setExtraOneTime(10_000);
+            inputs.setExtraOneTimeMonth(120);
+        }));
+
+        ScheduleUpdate update = session.update(terms(inputs -> {
+            inputs.setExtraOneTime(10_000);
+            inputs.setExtraOneTimeMonth(130);
+        }));
+
+        assertThat(update.isSnapshot()).isFalse();
+        assertThat(update.getMonth()).isNotEmpty();
+        assertThat(Arrays.stream(update.getMonth()).min().getAsInt()).isEqualTo(120);
+    }
+
+    @Test
+    void unchangedTermsReportNoRows() {
+        AmortizationTerms terms = terms(inputs -> inputs.setExtraMonthly(100));
+        ScheduleSession session = new ScheduleSession("s", "mortgage", terms);
+
+        ScheduleUpdate update = session.update(terms);
+
+        assertThat(update.getMonth()).isEmpty();
+        assertThat(update.getRevision()).isEqualTo(1);
+    }
+
+    @Test
+    void editsMatchAFullRecompute() {
+        SplittableRandom random = new SplittableRandom(7);
+        ScheduleSession session = new ScheduleSession("s", "mortgage", terms(inputs -> { }));
+        for (int edit = 0; edit < 200; edit++) {
+            double rate = random.nextInt(5) == 0 ? 5 + random.nextInt(8) * 0.25 : 6.5;
+            double extraMonthly = random.nextInt(3) == 0 ? random.nextInt(2_000) : 0;
+            double extraYearly = random.nextInt(3) == 0 ? random.nextInt(20_000) : 0;
+            double extraOneTime = random.nextBoolean() ? random.nextInt(200_000) : 0;
+            int extraOneTimeMonth = random.nextInt(361);
+            double homePrice = random.nextInt(10) == 0 ? 350_000 + random.nextInt(100_000) : 400_000;
+            AmortizationTerms next = terms(inputs -> {
+                inputs.setHomePrice(homePrice);
+                inputs.setInterestRate(rate);
+                inputs.setExtraMonthly(extraMonthly);
+                inputs.setExtraYearly(extraYearly);
+                inputs.setExtraOneTime(extraOneTime);
+                inputs.setExtraOneTimeMonth(extraOneTimeMonth);
+            });
+
+            session.update(next);
+
+            ScheduleUpdate snapshot = session.snapshot();
+            assertSameSchedule(snapshot, new ScheduleSession("fresh", "mortgage", next).snapshot(), edit);
+            assertThat(snapshot.getSummary()).usingRecursiveComparison()
+                    .isEqualTo(new AmortizationSchedule(next).summarize());
+        }
+    }
+
+    private static void assertSameSchedule(ScheduleUpdate actual, ScheduleUpdate expected, int edit) {
+        assertThat(actual.getSummary()).as("summary after edit %d", edit).usingRecursiveComparison()
+                .isEqualTo(expected.getSummary());
+        assertThat(actual.getMonth()).as("months after edit %d", edit).isEqualTo(expected.getMonth());
+        assertThat(actual.getPrincipal()).as("principal after edit %d", edit).isEqualTo(expected.getPrincipal());
+        assertThat(actual.getInterest()).as("interest after edit %d", edit).isEqualTo(expected.getInterest());
+        assertThat(actual.getExtra()).as("extra after edit %d", edit).isEqualTo(expected.getExtra());
+        assertThat(actual.getPmi()).as("pmi after edit %d", edit).isEqualTo(expected.getPmi());
+        assertThat(actual.getTotal()).as("total after edit %d", edit).isEqualTo(expected.getTotal());
+        assertThat(actual.getBalance()).as("balance after edit %d", edit).isEqualTo(expected.getBalance());
+    }
+
+    private static AmortizationTerms terms(Consumer<MortgageInputs> edit) {
+        MortgageInputs inputs = new MortgageInputs();
+        edit.accept(inputs);
+        return AmortizationTerms.of(inputs);
+    }
+}
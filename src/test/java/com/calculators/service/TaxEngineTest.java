@@ -0,0 +1,70 @@
+package com.calculators.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class TaxEngineTest {
+
+    private static final double[] RATES = {10, 12, 22, 24, 32, 35, 37};
+
+    /** 2025 taxable income at which each bracket above the first starts, and the tax owed there */
+    private static final double[] SINGLE_BOUNDS = {11_925, 48_475, 103_350, 197_300, 250_525, 626_350};
+    private static final double[] SINGLE_TAX = {1_192.50, 5_578.50, 17_651, 40_199, 57_231, 188_769.75};
+    private static final double[] JOINT_BOUNDS = {23_850, 96_950, 206_700, 394_600, 501_050, 751_600};
+    private static final double[] JOINT_TAX = {2_385, 11_157, 35_302, 80_398, 114_462, 202_154.50};
+
+    @Test
+    void federalTaxAtEachBracketEdge() {
+        assertBracketEdges(FilingStatus.SINGLE, SINGLE_BOUNDS, SINGLE_TAX);
+        assertBracketEdges(FilingStatus.MARRIED_JOINT, JOINT_BOUNDS, JOINT_TAX);
+    }
+
+    private static void assertBracketEdges(FilingStatus status, double[] bounds, double[] taxAtBound) {
+        for (int i = 0; i < bounds.length; i++) {
+            TaxResult atBound = compute(status, bounds[i]);
+            assertThat(atBound.getTaxableIncome()).isEqualTo(bounds[i]);
+            assertThat(atBound.getFederalTax()).as("%s tax at %s", status, bounds[i]).isEqualTo(taxAtBound[i]);
+            assertThat(atBound.getMarginalRate()).isEqualTo(RATES[i + 1]);
+
+            TaxResult below = compute(status, bounds[i] - 1);
+            assertThat(below.getMarginalRate()).isEqualTo(RATES[i]);
+            assertThat(below.getFederalTax()).isEqualTo(taxAtBound[i] - RATES[i] / 100, within(1e-9));
+
+            TaxResult above = compute(status, bounds[i] + 100);
+            assertThat(above.getFederalTax()).isEqualTo(taxAtBound[i] + RATES[i + 1], within(1e-9));
+        }
+    }
+
+    @Test
+    void nothingIsTaxedBelowTheStandardDeduction() {
+        TaxInputs inputs = new TaxInputs();
+        inputs.setWages(TaxEngine.standardDeduction(FilingStatus.MARRIED_JOINT));
+        inputs.setFilingStatus(FilingStatus.MARRIED_JOINT);
+        TaxResult result = new TaxResult();
+        TaxEngine.compute(inputs, result);
+
+        assertThat(result.getTaxableIncome()).isZero();
+        assertThat(result.getFederalTax()).isZero();
+        assertThat(result.getMarginalRate()).isEqualTo(10);
+    }
+
+    @Test
+    void socialSecurityStopsAtTheWageBase() {
+        assertThat(compute(FilingStatus.SINGLE, 176_100 - 15_750).getSocialSecurity()).isEqualTo(10_918.20);
+        assertThat(compute(FilingStatus.SINGLE, 500_000).getSocialSecurity()).isEqualTo(10_918.20);
+    }
+
+    /**
+     * Result for wages that leave exactly {@code taxable} after the standard deduction
+     */
+    private static TaxResult compute(FilingStatus status, double taxable) {
+        TaxInputs inputs = new TaxInputs();
+        inputs.setFilingStatus(status);
+        inputs.setWages(taxable + TaxEngine.standardDeduction(status));
+        TaxResult result = new TaxResult();
+        TaxEngine.compute(inputs, result);
+        return result;
+    }
+}